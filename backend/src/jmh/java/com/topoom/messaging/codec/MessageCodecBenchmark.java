@@ -0,0 +1,119 @@
+package com.topoom.messaging.codec;
+
+import com.topoom.messaging.dto.BlogCrawlingMessage;
+import com.topoom.messaging.dto.ContactInfo;
+import com.topoom.messaging.dto.FinalizeMessage;
+import com.topoom.messaging.dto.ImageInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 코덱 비교 (기존 JSON 컨버터 vs Smile)
+ * - 인코딩/디코딩 시간은 JMH 결과로, 본문 크기는 Setup에서 출력
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessageCodecBenchmark {
+
+    @Param({"json", "smile"})
+    private String codec;
+
+    @Param({"finalize", "crawling"})
+    private String payload;
+
+    private MessageConverter converter;
+    private Object message;
+    private Message encoded;
+
+    @Setup
+    public void setUp() {
+        converter = "smile".equals(codec)
+                ? new SmileMessageConverter(MessageCodecs.smileMapper())
+                : new Jackson2JsonMessageConverter(MessageCodecs.jsonMapper());
+        message = "finalize".equals(payload) ? finalizeMessage() : crawlingMessage();
+        encoded = converter.toMessage(message, new MessageProperties());
+        System.out.printf("%n[%s/%s] 본문 크기: %d bytes%n", codec, payload, encoded.getBody().length);
+    }
+
+    @Benchmark
+    public Message encode() {
+        return converter.toMessage(message, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object decode() {
+        return converter.fromMessage(encoded);
+    }
+
+    private static BlogCrawlingMessage crawlingMessage() {
+        return BlogCrawlingMessage.builder()
+                .requestId("batch-20240101-000000")
+                .postUrl("https://blog.naver.com/safe182pol/223300000000")
+                .title("[실종아동 찾기] 홍길동(10세) 서울 강남구에서 실종")
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 30))
+                .build();
+    }
+
+    private static FinalizeMessage finalizeMessage() {
+        Map<String, Object> parsed = new LinkedHashMap<>();
+        parsed.put("targetType", "아동");
+        parsed.put("personName", "홍길동");
+        parsed.put("age", 10);
+        parsed.put("gender", "남");
+        parsed.put("occurredAt", "2024-01-01");
+        parsed.put("occurredLocation", "서울특별시 강남구 테헤란로 123 앞");
+        parsed.put("heightCm", 140);
+        parsed.put("weightKg", 35);
+        parsed.put("bodyType", "보통");
+        parsed.put("faceShape", "계란형");
+        parsed.put("hairColor", "검정");
+        parsed.put("hairStyle", "짧은 머리");
+        parsed.put("clothingDesc", "파란색 점퍼, 검정 바지, 흰색 운동화");
+        parsed.put("etcFeatures", "왼쪽 눈썹 위 작은 점");
+
+        List<ImageInfo> images = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String key = "input/missing-person-1234/20240101-123000-abcdef0" + i + ".jpg";
+            images.add(ImageInfo.builder()
+                    .type(i == 4 ? ImageInfo.ImageType.TEXT_CAPTURE : ImageInfo.ImageType.FACE)
+                    .s3Key(key)
+                    .s3Url("https://topoom-bucket.s3.ap-northeast-2.amazonaws.com/" + key)
+                    .build());
+        }
+
+        return FinalizeMessage.builder()
+                .requestId("batch-20240101-000000")
+                .blogUrl("https://blog.naver.com/safe182pol/223300000000")
+                .title("[실종아동 찾기] 홍길동(10세) 서울 강남구에서 실종")
+                .text("실종아동을 찾습니다. 목격하신 분은 182로 연락 바랍니다. ".repeat(20))
+                .uploadedImages(images)
+                .contacts(List.of(
+                        ContactInfo.builder().organization("경찰청").phoneNumber("182").build(),
+                        ContactInfo.builder().organization("강남경찰서").phoneNumber("02-000-0000").build()))
+                .ocrResult("이름: 홍길동\n나이: 10세\n성별: 남\n발생일시: 2024-01-01\n발생장소: 서울특별시 강남구 테헤란로 123 앞\n"
+                        .repeat(10))
+                .parsedOcrData(parsed)
+                .caseId(1234L)
+                .lastImageS3Key(images.get(4).getS3Key())
+                .build();
+    }
+}
@@ -0,0 +1,224 @@
+package com.topoom.common;
+
+/**
+ * 이미지 헤더 증분 분석기
+ * 스트림으로 흘러가는 바이트를 순서대로 받아 전체 디코딩 없이 포맷과 가로/세로 크기만 알아낸다.
+ * JPEG는 SOF 세그먼트까지 마커를 따라가며, 나머지 포맷(PNG, GIF, BMP, WebP)은 앞 32바이트 헤더만 본다.
+ * 크기를 알 수 없으면 width/height는 null.
+ */
+public final class ImageHeaderSniffer {
+
+    private static final int HEADER_BYTES = 32;
+
+    // JPEG 마커 탐색 상태
+    private static final int JPEG_EXPECT_FF = 0;
+    private static final int JPEG_MARKER = 1;
+    private static final int JPEG_LENGTH_HIGH = 2;
+    private static final int JPEG_LENGTH_LOW = 3;
+    private static final int JPEG_SOF = 4;
+
+    private final byte[] header = new byte[HEADER_BYTES];
+    private long position;
+    private boolean done;
+    private Integer width;
+    private Integer height;
+
+    private boolean jpeg;
+    private int jpegState;
+    private int jpegMarker;
+    private int jpegLength;
+    private long jpegSkip;
+    private final byte[] sof = new byte[5];
+    private int sofPos;
+
+    public void update(byte[] data, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        while (i < end && !done) {
+            if (jpegSkip > 0) {
+                int n = (int) Math.min(jpegSkip, end - i);
+                jpegSkip -= n;
+                position += n;
+                i += n;
+                continue;
+            }
+            accept(data[i++] & 0xFF);
+        }
+        if (done && i < end) {
+            position += end - i;
+        }
+    }
+
+    /**
+     * 지금까지 받은 바이트 기준 Content-Type (판별 불가 시 image/jpeg)
+     */
+    public String contentType() {
+        if (position >= 2 && header[0] == (byte) 0xFF && header[1] == (byte) 0xD8) {
+            return "image/jpeg";
+        }
+        if (position < 12) {
+            return "image/jpeg";
+        }
+        if (isPng()) return "image/png";
+        if (isGif()) return "image/gif";
+        if (isBmp()) return "image/bmp";
+        if (isWebp()) return "image/webp";
+        return "image/jpeg";
+    }
+
+    public Integer width() {
+        return width;
+    }
+
+    public Integer height() {
+        return height;
+    }
+
+    private void accept(int b) {
+        if (position < HEADER_BYTES) {
+            header[(int) position] = (byte) b;
+        }
+        position++;
+
+        if (jpeg) {
+            acceptJpeg(b);
+            return;
+        }
+        if (position == 2 && header[0] == (byte) 0xFF && header[1] == (byte) 0xD8) {
+            jpeg = true;
+            jpegState = JPEG_EXPECT_FF;
+            return;
+        }
+        if (position == HEADER_BYTES) {
+            parseFixedHeader();
+            done = true;
+        }
+    }
+
+    private void acceptJpeg(int b) {
+        switch (jpegState) {
+            case JPEG_EXPECT_FF -> {
+                if (b == 0xFF) {
+                    jpegState = JPEG_MARKER;
+                }
+            }
+            case JPEG_MARKER -> {
+                if (b == 0xFF) {
+                    return; // fill byte
+                }
+                jpegMarker = b;
+                if (b == 0xD8 || b == 0x01 || (b >= 0xD0 && b <= 0xD7)) {
+                    jpegState = JPEG_EXPECT_FF; // 길이 없는 마커
+                } else if (b == 0xD9 || b == 0xDA) {
+                    done = true; // SOF 없이 이미지 데이터 시작
+                } else {
+                    jpegState = JPEG_LENGTH_HIGH;
+                }
+            }
+            case JPEG_LENGTH_HIGH -> {
+                jpegLength = b << 8;
+                jpegState = JPEG_LENGTH_LOW;
+            }
+            case JPEG_LENGTH_LOW -> {
+                jpegLength |= b;
+                if (jpegLength < 2) {
+                    done = true;
+                } else if (isStartOfFrame(jpegMarker)) {
+                    sofPos = 0;
+                    jpegState = JPEG_SOF;
+                } else {
+                    jpegSkip = jpegLength - 2;
+                    jpegState = JPEG_EXPECT_FF;
+                }
+            }
+            case JPEG_SOF -> {
+                sof[sofPos++] = (byte) b;
+                if (sofPos == sof.length) {
+                    // precision(1) | height(2) | width(2)
+                    height = ((sof[1] & 0xFF) << 8) | (sof[2] & 0xFF);
+                    width = ((sof[3] & 0xFF) << 8) | (sof[4] & 0xFF);
+                    done = true;
+                }
+            }
+            default -> done = true;
+        }
+    }
+
+    private static boolean isStartOfFrame(int marker) {
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    private void parseFixedHeader() {
+        if (isPng()) {
+            width = readIntBigEndian(16);
+            height = readIntBigEndian(20);
+        } else if (isGif()) {
+            width = readShortLittleEndian(6);
+            height = readShortLittleEndian(8);
+        } else if (isBmp()) {
+            width = readIntLittleEndian(18);
+            height = Math.abs(readIntLittleEndian(22));
+        } else if (isWebp()) {
+            parseWebp();
+        }
+    }
+
+    private void parseWebp() {
+        if (header[12] == 'V' && header[13] == 'P' && header[14] == '8') {
+            switch (header[15]) {
+                case ' ' -> {
+                    width = readShortLittleEndian(26) & 0x3FFF;
+                    height = readShortLittleEndian(28) & 0x3FFF;
+                }
+                case 'L' -> {
+                    int b0 = header[21] & 0xFF;
+                    int b1 = header[22] & 0xFF;
+                    int b2 = header[23] & 0xFF;
+                    int b3 = header[24] & 0xFF;
+                    width = 1 + (((b1 & 0x3F) << 8) | b0);
+                    height = 1 + (((b3 & 0x0F) << 10) | (b2 << 2) | ((b1 & 0xC0) >> 6));
+                }
+                case 'X' -> {
+                    width = 1 + readInt24LittleEndian(24);
+                    height = 1 + readInt24LittleEndian(27);
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    private boolean isPng() {
+        return header[0] == (byte) 0x89 && header[1] == 0x50 && header[2] == 0x4E && header[3] == 0x47;
+    }
+
+    private boolean isGif() {
+        return header[0] == 0x47 && header[1] == 0x49 && header[2] == 0x46;
+    }
+
+    private boolean isBmp() {
+        return header[0] == 0x42 && header[1] == 0x4D;
+    }
+
+    private boolean isWebp() {
+        return header[8] == 0x57 && header[9] == 0x45 && header[10] == 0x42 && header[11] == 0x50;
+    }
+
+    private int readIntBigEndian(int offset) {
+        return ((header[offset] & 0xFF) << 24) | ((header[offset + 1] & 0xFF) << 16)
+                | ((header[offset + 2] & 0xFF) << 8) | (header[offset + 3] & 0xFF);
+    }
+
+    private int readIntLittleEndian(int offset) {
+        return (header[offset] & 0xFF) | ((header[offset + 1] & 0xFF) << 8)
+                | ((header[offset + 2] & 0xFF) << 16) | ((header[offset + 3] & 0xFF) << 24);
+    }
+
+    private int readInt24LittleEndian(int offset) {
+        return (header[offset] & 0xFF) | ((header[offset + 1] & 0xFF) << 8) | ((header[offset + 2] & 0xFF) << 16);
+    }
+
+    private int readShortLittleEndian(int offset) {
+        return (header[offset] & 0xFF) | ((header[offset + 1] & 0xFF) << 8);
+    }
+}
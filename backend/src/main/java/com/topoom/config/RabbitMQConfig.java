@@ -1,22 +1,21 @@
 package com.topoom.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.topoom.messaging.codec.MessageCodecs;
+import com.topoom.messaging.retry.ConfirmedPublisher;
+import com.topoom.messaging.retry.DelayedRetryAdvice;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.*;
-import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.RetryCallback;
-import org.springframework.retry.RetryContext;
-import org.springframework.retry.RetryListener;
-import org.springframework.retry.interceptor.RetryOperationsInterceptor;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * RabbitMQ 설정
@@ -24,7 +23,7 @@ import org.springframework.retry.interceptor.RetryOperationsInterceptor;
  * - Exchange: 메시지 라우팅
  * - Binding: Queue와 Exchange 연결
  * - DLQ (Dead Letter Queue): 처리 실패 메시지 저장
- * - Retry: 재시도 정책
+ * - Retry: 단계별 지연 큐 (TTL 만료 시 원래 큐로 복귀)
  */
 @Slf4j
 @Configuration
@@ -37,6 +36,7 @@ public class RabbitMQConfig {
     public static final String OCR_REQUEST_QUEUE = "ocr-request-queue";
     public static final String FINALIZE_QUEUE = "finalize-queue";
     public static final String DEAD_LETTER_QUEUE = "dead-letter-queue";
+    public static final String PARKING_QUEUE = "dead-letter-parking-queue";
 
     // ========================================
     // Exchange Names
@@ -44,13 +44,19 @@ public class RabbitMQConfig {
     public static final String DEAD_LETTER_EXCHANGE = "dlx";
 
     // ========================================
-    // Message Converter (JSON)
+    // Message Converter (JSON / Smile)
     // ========================================
+    @Value("${messaging.codec:json}")
+    private String messageCodec;
+
+    /**
+     * 발행은 messaging.codec(json|smile)으로, 소비는 메시지의 content-type으로 코덱 선택
+     * - 코덱 전환 중에도 기존 JSON 메시지를 그대로 소비 가능
+     * - json/smile 이외의 값이면 기동 시 실패
+     */
     @Bean
     public MessageConverter messageConverter() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        return new Jackson2JsonMessageConverter(objectMapper);
+        return MessageCodecs.messageConverter(messageCodec);
     }
 
     @Bean
@@ -73,6 +79,26 @@ public class RabbitMQConfig {
         return QueueBuilder.durable(DEAD_LETTER_QUEUE).build();
     }
 
+    /**
+     * DLQ 재처리 중 수기 관리 저장이 반복 실패한 메시지 보관 (운영자가 직접 확인)
+     */
+    @Bean
+    public Queue parkingQueue() {
+        return QueueBuilder.durable(PARKING_QUEUE).build();
+    }
+
+    /**
+     * DLQ 재처리 지연 큐: 수기 관리 저장 실패 메시지를 잠시 보관했다가 DLQ로 되돌림 (DB 장애 시 즉시 재전달 방지)
+     */
+    @Bean
+    public Queue deadLetterRetryQueue(@Value("${messaging.dlq.save-retry-delay-ms:30000}") long delayMs) {
+        return QueueBuilder.durable(DelayedRetryAdvice.delayQueueName(DEAD_LETTER_QUEUE, delayMs))
+                .ttl((int) delayMs)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(DEAD_LETTER_QUEUE)
+                .build();
+    }
+
     @Bean
     public Binding deadLetterBinding() {
         return BindingBuilder.bind(deadLetterQueue())
@@ -108,16 +134,49 @@ public class RabbitMQConfig {
     }
 
     // ========================================
-    // Retry Policy (5번 재시도 후 DLQ로)
+    // Delayed Retry (지연 큐 → 원래 큐, 소진 시 DLQ)
     // ========================================
+    public static final String[] RETRY_STAGE_QUEUES = {CRAWLING_QUEUE, OCR_REQUEST_QUEUE, FINALIZE_QUEUE};
+
+    @Value("${messaging.retry.delays-ms:2000,4000,8000,10000}")
+    private long[] retryDelaysMs;
+
+    /**
+     * 단계별 지연 큐: "<큐>.retry.<지연ms>"
+     * - 소비자 없이 TTL 동안 보관 후 기본 exchange로 원래 큐에 dead-letter
+     * - 지연 값이 큐 이름에 들어가므로 설정을 바꾸면 새 큐가 선언됨 (기존 큐의 TTL 인자 충돌 없음)
+     */
+    @Bean
+    public Declarables retryDelayQueues() {
+        List<Declarable> queues = new ArrayList<>();
+        for (String stage : RETRY_STAGE_QUEUES) {
+            for (long delayMs : retryDelaysMs) {
+                queues.add(QueueBuilder.durable(DelayedRetryAdvice.delayQueueName(stage, delayMs))
+                        .ttl((int) delayMs)
+                        .deadLetterExchange("")
+                        .deadLetterRoutingKey(stage)
+                        .build());
+            }
+        }
+        return new Declarables(queues);
+    }
+
+    @Bean
+    public DelayedRetryAdvice delayedRetryAdvice(ConfirmedPublisher confirmedPublisher) {
+        return new DelayedRetryAdvice(confirmedPublisher, retryDelaysMs);
+    }
+
+    /**
+     * 기본 리스너 컨테이너 (재시도 지연 동안 Consumer 스레드가 대기하지 않음)
+     */
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
-            ConnectionFactory connectionFactory) {
+            ConnectionFactory connectionFactory, DelayedRetryAdvice delayedRetryAdvice) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(messageConverter());
-        factory.setDefaultRequeueRejected(false); // 실패 시 재큐잉 안 함 → DLQ로
-        factory.setAdviceChain(retryInterceptor());
+        factory.setDefaultRequeueRejected(false); // 재발행 실패 시 재큐잉 안 함 → DLQ로
+        factory.setAdviceChain(delayedRetryAdvice);
 
         // Consumer 동시성 설정 (기본값, 각 Consumer에서 오버라이드 가능)
         factory.setConcurrentConsumers(3);
@@ -126,89 +185,48 @@ public class RabbitMQConfig {
         return factory;
     }
 
-    @Bean
-    public RetryOperationsInterceptor retryInterceptor() {
-        // RetryTemplate 직접 생성 (listener 등록을 위해)
-        org.springframework.retry.support.RetryTemplate retryTemplate =
-            new org.springframework.retry.support.RetryTemplate();
-
-        // Retry Policy (최대 5번 시도)
-        org.springframework.retry.policy.SimpleRetryPolicy retryPolicy =
-            new org.springframework.retry.policy.SimpleRetryPolicy();
-        retryPolicy.setMaxAttempts(5);
-        retryTemplate.setRetryPolicy(retryPolicy);
-
-        // Backoff Policy (2초 → 4초 → 8초 → 10초 → 10초)
-        org.springframework.retry.backoff.ExponentialBackOffPolicy backOffPolicy =
-            new org.springframework.retry.backoff.ExponentialBackOffPolicy();
-        backOffPolicy.setInitialInterval(2000);
-        backOffPolicy.setMultiplier(2.0);
-        backOffPolicy.setMaxInterval(10000);
-        retryTemplate.setBackOffPolicy(backOffPolicy);
-
-        // Retry Listener 등록
-        retryTemplate.registerListener(new RetryCountLoggingListener());
-
-        // Interceptor 생성
-        return RetryInterceptorBuilder.stateless()
-                .retryOperations(retryTemplate)
-                .recoverer(new RejectAndDontRequeueRecoverer())
-                .build();
-    }
-
     /**
-     * 재시도 횟수를 로깅하는 Listener
+     * DLQ 재처리 Consumer 전용 (배치 리스너)
+     * - batchSize개가 모이거나 receiveTimeout 동안 새 메시지가 없으면 배치 전달
+     * - MANUAL ack: Consumer가 메시지마다 처리(저장/재발행)가 확인된 뒤 ack
      */
-    public static class RetryCountLoggingListener implements RetryListener {
-        @Override
-        public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
-            // onError에서 정확한 재시도 횟수를 설정하므로 여기서는 로그만
-            int retryCount = context.getRetryCount();
-            log.debug("🔄 재시도 컨텍스트 시작: context.retryCount={}", retryCount);
-            return true;
-        }
-
-        @Override
-        public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
-            int retryCount = context.getRetryCount();
-            // ThreadLocal에 정확한 재시도 횟수 저장 (Consumer에서 사용)
-            RetryContextHolder.setRetryCount(retryCount);
-
-            log.warn("❌ 재시도 실패: {}회차 실패 (다음: {}회차), 예외={}, 메시지={}",
-                retryCount, retryCount + 1, throwable.getClass().getSimpleName(), throwable.getMessage());
-        }
-
-        @Override
-        public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
-            int finalRetryCount = context.getRetryCount();
-            if (throwable != null) {
-                log.error("⚠️ 모든 재시도 실패 (총 {}회 시도), DLQ로 이동 예정, 최종 예외={}",
-                    finalRetryCount, throwable.getClass().getSimpleName());
-            } else {
-                log.info("✅ 재시도 성공: {}회차에 성공", finalRetryCount);
-            }
-            // 재시도 완료 후 ThreadLocal 정리
-            RetryContextHolder.clear();
-        }
+    @Bean
+    public SimpleRabbitListenerContainerFactory deadLetterListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${messaging.dlq.batch-size:50}") int batchSize) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize * 2);
+        factory.setReceiveTimeout(1000L);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setDefaultRequeueRejected(false);
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        return factory;
     }
 
     /**
-     * ThreadLocal로 재시도 횟수 저장
+     * 비동기 OCR Consumer 전용 (ocr.consumer.mode=async)
+     * - MANUAL ack: 리스너가 반환한 Mono가 완료되면 ack, 실패하면 nack → DLQ
+     * - prefetch = 동시에 처리 중인(ack 전) 메시지 수 상한
+     * - 실패는 Consumer가 DelayedRetryAdvice.reschedule로 직접 지연 큐/DLX에 넘기므로 adviceChain 없음
      */
-    public static class RetryContextHolder {
-        private static final ThreadLocal<Integer> retryCount = new ThreadLocal<>();
-
-        public static void setRetryCount(int count) {
-            retryCount.set(count);
-        }
-
-        public static int getRetryCount() {
-            Integer count = retryCount.get();
-            return count != null ? count : 0;
-        }
-
-        public static void clear() {
-            retryCount.remove();
-        }
+    @Bean
+    @ConditionalOnProperty(name = "ocr.consumer.mode", havingValue = "async")
+    public SimpleRabbitListenerContainerFactory asyncOcrListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${ocr.consumer.max-in-flight:16}") int maxInFlight) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setDefaultRequeueRejected(false); // 실패 시 재큐잉 안 함 → DLQ로
+        factory.setPrefetchCount(maxInFlight);
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        return factory;
     }
 }
@@ -27,6 +27,9 @@ public class WebDriverConfig {
     @Value("${webdriver.timeout:30}")
     private int timeoutSeconds;
 
+    @Value("${webdriver.js-heap-mb:256}")
+    private int jsHeapMb;
+
     @Bean
     @Scope("prototype")
     public WebDriver webDriver() {
@@ -81,6 +84,11 @@ public class WebDriverConfig {
         options.addArguments("--window-size=1920,1080");
         options.addArguments("--user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
 
+        // 세션당 메모리 사용량 제한 (WebDriverPool의 전체 메모리 한도 계산 기준)
+        options.addArguments("--disable-extensions");
+        options.addArguments("--renderer-process-limit=2");
+        options.addArguments("--js-flags=--max-old-space-size=" + jsHeapMb);
+
         if (headless) {
             options.addArguments("--headless");
         }
@@ -0,0 +1,177 @@
+package com.topoom.external.blog.service;
+
+import com.topoom.external.blog.dto.ExtractedImageInfo;
+import com.topoom.external.blog.service.BlogS3ImageUploadService.UploadedImage;
+import com.topoom.missingcase.entity.CaseFile;
+import com.topoom.missingcase.entity.MissingCase;
+import com.topoom.missingcase.repository.MissingCaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 이미지 동시 수집
+ * - 다운로드 + S3 업로드는 공용 스레드 풀에서 병렬 처리 (호스트별 동시 연결 수 제한)
+ * - 호스트별 한도는 대기열(HostLane)로 지킨다: 한도를 넘는 작업은 풀에 넣지 않고 대기열에 두었다가
+ *   같은 호스트 작업이 끝날 때 넣으므로, 풀 스레드가 허가를 기다리며 멈춰 다른 호스트를 막지 않는다
+ * - CaseFile 저장은 호출 스레드에서 원래 순서대로 수행하여 sourceSeq / isLastImage 의미를 유지
+ */
+@Slf4j
+@Service
+public class BlogImageIngestionService {
+
+    private final BlogS3ImageUploadService blogS3ImageUploadService;
+    private final MissingCaseRepository missingCaseRepository;
+    private final ExecutorService executor;
+    private final int perHostLimit;
+    private final Map<String, HostLane> hostLanes = new ConcurrentHashMap<>();
+
+    public BlogImageIngestionService(BlogS3ImageUploadService blogS3ImageUploadService,
+                                     MissingCaseRepository missingCaseRepository,
+                                     @Value("${blog.image-ingest.threads:16}") int threads,
+                                     @Value("${blog.image-ingest.per-host-limit:4}") int perHostLimit) {
+        this.blogS3ImageUploadService = blogS3ImageUploadService;
+        this.missingCaseRepository = missingCaseRepository;
+        this.perHostLimit = Math.max(1, perHostLimit);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "blog-image-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 이미지 수집 결과 (성공한 파일은 sourceSeq 순서)
+     */
+    public record IngestResult(List<CaseFile> files, int failCount) {
+    }
+
+    private record UploadJob(String imageUrl, Long caseId, CompletableFuture<UploadedImage> result) {
+    }
+
+    /**
+     * 호스트 하나의 실행 중 작업 수와 대기 작업 (this를 잠금으로 사용)
+     */
+    private static final class HostLane {
+        final Deque<UploadJob> pending = new ArrayDeque<>();
+        int inFlight;
+    }
+
+    /**
+     * 게시글의 모든 이미지를 병렬로 다운로드/업로드한 뒤 순서대로 CaseFile 저장
+     * sourceSeq는 추출 순서(1부터), isLastImage는 추출된 마지막 이미지에만 설정된다.
+     */
+    public IngestResult ingest(List<ExtractedImageInfo> images, String postUrl, Long caseId, String sourceTitle) {
+        if (images.isEmpty()) {
+            return new IngestResult(List.of(), 0);
+        }
+
+        long start = System.currentTimeMillis();
+        List<CompletableFuture<UploadedImage>> uploads = new ArrayList<>(images.size());
+        for (ExtractedImageInfo image : images) {
+            String imageUrl = image.getImageUrl();
+            uploads.add(submit(imageUrl, caseId));
+        }
+
+        MissingCase missingCase = caseId != null ? missingCaseRepository.findById(caseId).orElse(null) : null;
+        List<CaseFile> files = new ArrayList<>();
+        int failCount = 0;
+
+        for (int i = 0; i < images.size(); i++) {
+            String imageUrl = images.get(i).getImageUrl();
+            Integer sourceSeq = i + 1; // 이미지 순서 (1부터 시작)
+            Boolean isLastImage = (i == images.size() - 1); // 마지막 이미지 여부
+            try {
+                UploadedImage uploaded = uploads.get(i).join();
+                CaseFile saved = blogS3ImageUploadService.saveCaseFile(uploaded, missingCase,
+                        sourceTitle, sourceSeq, isLastImage);
+                files.add(saved);
+                log.info("이미지 업로드 성공: seq={}, isLast={}, url={}", sourceSeq, isLastImage, imageUrl);
+            } catch (Exception e) {
+                failCount++;
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.error("이미지 업로드 실패: {} - {}", imageUrl, cause.getMessage());
+            }
+        }
+
+        log.info("게시글 이미지 수집 완료: postUrl={}, 성공={}, 실패={}, {}ms",
+                postUrl, files.size(), failCount, System.currentTimeMillis() - start);
+        return new IngestResult(files, failCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private CompletableFuture<UploadedImage> submit(String imageUrl, Long caseId) {
+        HostLane lane = hostLanes.computeIfAbsent(hostOf(imageUrl), h -> new HostLane());
+        UploadJob job = new UploadJob(imageUrl, caseId, new CompletableFuture<>());
+        synchronized (lane) {
+            lane.pending.addLast(job);
+        }
+        dispatch(lane);
+        return job.result();
+    }
+
+    /**
+     * 호스트 한도 안에서 대기 작업을 풀에 넣는다 (작업이 끝날 때마다 다시 호출)
+     */
+    private void dispatch(HostLane lane) {
+        List<UploadJob> ready = new ArrayList<>();
+        synchronized (lane) {
+            while (lane.inFlight < perHostLimit && !lane.pending.isEmpty()) {
+                lane.inFlight++;
+                ready.add(lane.pending.pollFirst());
+            }
+        }
+        for (UploadJob job : ready) {
+            try {
+                executor.execute(() -> run(lane, job));
+            } catch (RejectedExecutionException e) {
+                synchronized (lane) {
+                    lane.inFlight--;
+                }
+                job.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private void run(HostLane lane, UploadJob job) {
+        try {
+            job.result().complete(blogS3ImageUploadService.uploadImageObject(job.imageUrl(), job.caseId()));
+        } catch (Throwable t) {
+            job.result().completeExceptionally(t);
+        } finally {
+            synchronized (lane) {
+                lane.inFlight--;
+            }
+            dispatch(lane);
+        }
+    }
+
+    private String hostOf(String imageUrl) {
+        try {
+            String host = URI.create(imageUrl).getHost();
+            return host != null ? host : "";
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+}
@@ -4,14 +4,18 @@ import com.topoom.external.blog.dto.CleanupResult;
 import com.topoom.external.blog.entity.BlogPost;
 import com.topoom.external.blog.repository.BlogPostRepository;
 import com.topoom.missingcase.entity.MissingCase;
+import com.topoom.missingcase.event.CaseStatsEvent;
+import com.topoom.missingcase.event.MissingCaseChangedEvent;
 import com.topoom.missingcase.repository.MissingCaseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -35,6 +39,7 @@ public class BlogPostCleanupService {
 
     private final BlogPostRepository blogPostRepository;
     private final MissingCaseRepository missingCaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 1단계: 크롤링 결과와 DB 비교 → 마킹 + 즉시 연쇄 소프트딜리트
@@ -59,6 +64,7 @@ public class BlogPostCleanupService {
 
         int markedCount = 0;
         int cascadedCount = 0;
+        Set<Long> changedCaseIds = new HashSet<>();
 
         for (BlogPost blogPost : activeBlogPosts) {
             if (!currentUrlSet.contains(blogPost.getSourceUrl())) {
@@ -73,6 +79,8 @@ public class BlogPostCleanupService {
                         .ifPresent(missingCase -> {
                             missingCase.softDelete();
                             missingCaseRepository.save(missingCase);
+                            changedCaseIds.add(missingCase.getId());
+                            eventPublisher.publishEvent(CaseStatsEvent.resolved());
                             log.info("🗑️ Soft Delete: title={}, url={}",
                                 blogPost.getSourceTitle(), blogPost.getSourceUrl());
                         });
@@ -91,6 +99,9 @@ public class BlogPostCleanupService {
         } else {
             log.info("✅ [1단계] 완료: 삭제된 게시글 없음");
         }
+        if (!changedCaseIds.isEmpty()) {
+            eventPublisher.publishEvent(new MissingCaseChangedEvent(changedCaseIds));
+        }
 
         return CleanupResult.ofCascaded(cascadedCount, 0);
     }
@@ -124,6 +135,7 @@ public class BlogPostCleanupService {
 
         int purgedCount = 0;
         int recoveredCount = 0;
+        Set<Long> changedCaseIds = new HashSet<>();
 
         for (BlogPost blogPost : deletedBlogPosts) {
             try {
@@ -137,6 +149,8 @@ public class BlogPostCleanupService {
                             if (missingCase.isDeleted()) {
                                 missingCase.undoSoftDelete();
                                 missingCaseRepository.save(missingCase);
+                                changedCaseIds.add(missingCase.getId());
+                                eventPublisher.publishEvent(CaseStatsEvent.unresolved());
                                 log.info("🔄 복구: title={}, url={}",
                                     blogPost.getSourceTitle(), blogPost.getSourceUrl());
                             }
@@ -166,6 +180,10 @@ public class BlogPostCleanupService {
             );
         }
 
+        if (!changedCaseIds.isEmpty()) {
+            eventPublisher.publishEvent(new MissingCaseChangedEvent(changedCaseIds));
+        }
+
         log.info("✅ [2단계] 완료: purged={}, recovered={}", purgedCount, recoveredCount);
         return CleanupResult.builder()
             .purgedCount(purgedCount)
@@ -0,0 +1,55 @@
+package com.topoom.external.blog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 네이버 블로그 게시글 정적 HTML 조회 (브라우저 없이 HTTP + Jsoup)
+ * blog.naver.com/{blogId}/{logNo} 형태는 본문이 iframe(#mainFrame)에 있으므로 iframe 문서를 한 번 더 조회한다.
+ */
+@Slf4j
+@Component
+public class BlogPostHtmlFetcher {
+
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private final int timeoutMillis;
+
+    public BlogPostHtmlFetcher(@Value("${blog.static-fetch.timeout-ms:5000}") int timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 게시글 본문이 담긴 문서 조회
+     * @throws IOException HTTP 오류 또는 타임아웃
+     */
+    public Document fetchPostDocument(String postUrl) throws IOException {
+        Document document = fetch(postUrl);
+
+        Element mainFrame = document.selectFirst("iframe#mainFrame");
+        if (mainFrame != null) {
+            String frameUrl = mainFrame.absUrl("src");
+            if (!frameUrl.isBlank()) {
+                log.debug("본문 iframe 조회: {}", frameUrl);
+                document = fetch(frameUrl);
+            }
+        }
+        return document;
+    }
+
+    private Document fetch(String url) throws IOException {
+        return Jsoup.connect(url)
+                .userAgent(USER_AGENT)
+                .referrer("https://blog.naver.com/")
+                .timeout(timeoutMillis)
+                .followRedirects(true)
+                .get();
+    }
+}
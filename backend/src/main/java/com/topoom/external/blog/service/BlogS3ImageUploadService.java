@@ -1,5 +1,6 @@
 package com.topoom.external.blog.service;
 
+import com.topoom.external.blog.service.S3StreamingUploader.StoredImage;
 import com.topoom.missingcase.entity.CaseFile;
 import com.topoom.missingcase.entity.MissingCase;
 import com.topoom.missingcase.event.LastImageOcrEvent;
@@ -10,16 +11,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
-import java.security.MessageDigest;
+import java.net.URLConnection;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -28,7 +24,7 @@ import java.time.format.DateTimeFormatter;
 @RequiredArgsConstructor
 public class BlogS3ImageUploadService {
     
-    private final S3Client s3Client;
+    private final ContentAddressedImageStore contentAddressedImageStore;
     private final CaseFileRepository caseFileRepository;
     private final MissingCaseRepository missingCaseRepository;
     private final ApplicationEventPublisher eventPublisher;
@@ -44,136 +40,80 @@ public class BlogS3ImageUploadService {
     
     public CaseFile downloadAndUploadImage(String imageUrl, String sourcePostUrl, Long caseId, 
                                            String sourceTitle, Integer sourceSeq, Boolean isLastImage) {
-        try {
-            log.info("이미지 다운로드 및 S3 업로드 시작: {}", imageUrl);
-            
-            byte[] imageData = downloadImageFromUrl(imageUrl);
-            if (imageData == null || imageData.length == 0) {
-                throw new RuntimeException("이미지 다운로드 실패: " + imageUrl);
-            }
-            
-            String contentType = detectContentType(imageData);
-            String fileExtension = getFileExtension(contentType);
-            String s3Key = generateS3Key(caseId, fileExtension);
-            
-            BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageData));
-            int width = image != null ? image.getWidth() : 0;
-            int height = image != null ? image.getHeight() : 0;
-            
-            String checksum = calculateSHA256(imageData);
-            
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .contentType(contentType)
-                    .contentLength((long) imageData.length)
-                    .build();
-            
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(imageData));
-            
-            log.info("이미지 S3 업로드 완료: bucket={}, key={}, size={}bytes", 
-                    bucketName, s3Key, imageData.length);
-            
-            CaseFile caseFile = CaseFile.builder()
-                    .ioRole(CaseFile.IoRole.INPUT)
-                    .purpose(CaseFile.Purpose.BEFORE)  // 크롤링된 원본 이미지는 BEFORE로 저장
-                    .contentKind(CaseFile.ContentKind.IMAGE)
-                    .s3Key(s3Key)
-                    .s3Bucket(bucketName)
-                    .contentType(contentType)
-                    .sizeBytes((long) imageData.length)
-                    .sourceUrl(imageUrl)
-                    .sourceTitle(sourceTitle)
-                    .sourceSeq(sourceSeq)
-                    .isLastImage(isLastImage)
-                    .crawledAt(LocalDateTime.now())
-                    .build();
-            
-            // MissingCase 연결 (caseId가 있는 경우)
-            if (caseId != null) {
-                MissingCase missingCase = missingCaseRepository.findById(caseId).orElse(null);
-                caseFile.setMissingCase(missingCase);
-            }
-            
-            CaseFile saved = caseFileRepository.save(caseFile);
-            log.info("CaseFile 저장 OK -> id={}, bucket={}, key={}",
-                    saved.getId(), saved.getS3Bucket(), saved.getS3Key());
+        UploadedImage uploaded = uploadImageObject(imageUrl, caseId);
 
-            // 큐 방식으로 변경: OCR 처리는 Consumer에서 수행
-            if (Boolean.TRUE.equals(isLastImage) && caseId != null) {
-                log.info("마지막 이미지 업로드 완료: caseId={}, s3Key={}", caseId, saved.getS3Key());
-            }
+        // MissingCase 연결 (caseId가 있는 경우)
+        MissingCase missingCase = caseId != null ? missingCaseRepository.findById(caseId).orElse(null) : null;
+        return saveCaseFile(uploaded, missingCase, sourceTitle, sourceSeq, isLastImage);
+    }
+
+    /**
+     * S3에 업로드된 크롤링 이미지 (CaseFile 저장 전)
+     */
+    public record UploadedImage(String imageUrl, StoredImage stored) {
+    }
 
-            return saved;
-                    
+    /**
+     * 이미지 다운로드 후 S3 업로드 (CaseFile 저장 없음, 여러 스레드에서 동시에 호출 가능)
+     * 다운로드 중에 체크섬과 가로/세로 크기를 함께 계산하며, 같은 이미지가 이미 있으면 기존 S3 객체를 재사용한다.
+     */
+    public UploadedImage uploadImageObject(String imageUrl, Long caseId) {
+        log.info("이미지 다운로드 및 S3 업로드 시작: {}", imageUrl);
+        try (InputStream in = openImageStream(imageUrl)) {
+            StoredImage stored = contentAddressedImageStore.store(in,
+                    contentType -> generateS3Key(caseId, S3StreamingUploader.fileExtension(contentType)));
+            return new UploadedImage(imageUrl, stored);
         } catch (Exception e) {
             log.error("이미지 다운로드 및 S3 업로드 실패: {}", imageUrl, e);
             throw new RuntimeException("이미지 다운로드 및 S3 업로드 실패", e);
         }
     }
-    
-    private byte[] downloadImageFromUrl(String imageUrl) {
-        try {
-            URL url = new URL(imageUrl);
-            var connection = url.openConnection();
-            connection.setRequestProperty("User-Agent", 
-                "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
-            connection.setRequestProperty("Referer", "https://blog.naver.com/");
-            connection.setConnectTimeout(10000);
-            connection.setReadTimeout(30000);
-            
-            byte[] data = connection.getInputStream().readAllBytes();
-            log.info("이미지 다운로드 성공: {} bytes from {}", data.length, imageUrl);
-            return data;
-        } catch (Exception e) {
-            log.error("이미지 다운로드 실패: {}", imageUrl, e);
-            return null;
-        }
-    }
-    
-    private String detectContentType(byte[] imageData) {
-        try {
-            if (imageData.length < 12) return "image/jpeg";
-            
-            if (imageData[0] == (byte) 0xFF && imageData[1] == (byte) 0xD8) {
-                return "image/jpeg";
-            }
-            
-            if (imageData[0] == (byte) 0x89 && imageData[1] == (byte) 0x50 && 
-                imageData[2] == (byte) 0x4E && imageData[3] == (byte) 0x47) {
-                return "image/png";
-            }
-            
-            if (imageData[0] == (byte) 0x47 && imageData[1] == (byte) 0x49 && 
-                imageData[2] == (byte) 0x46) {
-                return "image/gif";
-            }
-            
-            if (imageData[0] == (byte) 0x42 && imageData[1] == (byte) 0x4D) {
-                return "image/bmp";
-            }
-            
-            if (imageData[8] == (byte) 0x57 && imageData[9] == (byte) 0x45 && 
-                imageData[10] == (byte) 0x42 && imageData[11] == (byte) 0x50) {
-                return "image/webp";
-            }
-            
-            return "image/jpeg";
-            
-        } catch (Exception e) {
-            log.warn("Content type 감지 실패, JPEG로 기본 설정: {}", e.getMessage());
-            return "image/jpeg";
+
+    /**
+     * 업로드된 이미지를 CaseFile로 저장
+     */
+    public CaseFile saveCaseFile(UploadedImage uploaded, MissingCase missingCase,
+                                 String sourceTitle, Integer sourceSeq, Boolean isLastImage) {
+        StoredImage stored = uploaded.stored();
+        CaseFile caseFile = CaseFile.builder()
+                .ioRole(CaseFile.IoRole.INPUT)
+                .purpose(CaseFile.Purpose.BEFORE)  // 크롤링된 원본 이미지는 BEFORE로 저장
+                .contentKind(CaseFile.ContentKind.IMAGE)
+                .s3Key(stored.s3Key())
+                .s3Bucket(bucketName)
+                .contentType(stored.contentType())
+                .sizeBytes(stored.sizeBytes())
+                .checksum(stored.checksum())
+                .width(stored.width())
+                .height(stored.height())
+                .sourceUrl(uploaded.imageUrl())
+                .sourceTitle(sourceTitle)
+                .sourceSeq(sourceSeq)
+                .isLastImage(isLastImage)
+                .crawledAt(LocalDateTime.now())
+                .missingCase(missingCase)
+                .build();
+
+        CaseFile saved = caseFileRepository.save(caseFile);
+        log.info("CaseFile 저장 OK -> id={}, bucket={}, key={}",
+                saved.getId(), saved.getS3Bucket(), saved.getS3Key());
+
+        // 큐 방식으로 변경: OCR 처리는 Consumer에서 수행
+        if (Boolean.TRUE.equals(isLastImage) && missingCase != null) {
+            log.info("마지막 이미지 업로드 완료: caseId={}, s3Key={}", missingCase.getId(), saved.getS3Key());
         }
+
+        return saved;
     }
     
-    private String getFileExtension(String contentType) {
-        return switch (contentType) {
-            case "image/png" -> "png";
-            case "image/gif" -> "gif";
-            case "image/bmp" -> "bmp";
-            case "image/webp" -> "webp";
-            default -> "jpg";
-        };
+    private InputStream openImageStream(String imageUrl) throws IOException {
+        URLConnection connection = new URL(imageUrl).openConnection();
+        connection.setRequestProperty("User-Agent", 
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
+        connection.setRequestProperty("Referer", "https://blog.naver.com/");
+        connection.setConnectTimeout(10000);
+        connection.setReadTimeout(30000);
+        return connection.getInputStream();
     }
     
     private String generateS3Key(Long caseId, String extension) {
@@ -189,23 +129,4 @@ public class BlogS3ImageUploadService {
                     timestamp, suffix, extension);
         }
     }
-    
-    private String calculateSHA256(byte[] data) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(data);
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (Exception e) {
-            log.error("SHA-256 체크섬 계산 실패", e);
-            return null;
-        }
-    }
 }
@@ -0,0 +1,91 @@
+package com.topoom.external.blog.service;
+
+import com.topoom.external.blog.service.S3StreamingUploader.PendingUpload;
+import com.topoom.external.blog.service.S3StreamingUploader.StoredImage;
+import com.topoom.missingcase.entity.CaseFile;
+import com.topoom.missingcase.repository.CaseFileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 체크섬 기반 이미지 저장소
+ * 같은 바이트의 이미지가 이미 CaseFile로 저장되어 있으면 S3에 다시 올리지 않고 기존 객체(s3Key)를 공유한다.
+ * 애플리케이션은 case_file 행과 S3 객체를 지우지 않으므로 재사용한 s3Key가 사라질 일은 없다.
+ * (삭제 경로를 만든다면 같은 체크섬을 참조하는 행 수를 재사용 조회와 같은 트랜잭션에서 확인해야 한다)
+ */
+@Slf4j
+@Service
+public class ContentAddressedImageStore {
+
+    private final S3StreamingUploader s3StreamingUploader;
+    private final CaseFileRepository caseFileRepository;
+    private final String bucketName;
+    private final Counter uploadedCounter;
+    private final Counter reusedCounter;
+
+    public ContentAddressedImageStore(S3StreamingUploader s3StreamingUploader,
+                                      CaseFileRepository caseFileRepository,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${spring.cloud.aws.s3.bucket}") String bucketName) {
+        this.s3StreamingUploader = s3StreamingUploader;
+        this.caseFileRepository = caseFileRepository;
+        this.bucketName = bucketName;
+        this.uploadedCounter = Counter.builder("image.store.requests")
+                .description("이미지 저장 요청 수")
+                .tag("result", "uploaded")
+                .register(meterRegistry);
+        this.reusedCounter = Counter.builder("image.store.requests")
+                .description("이미지 저장 요청 수")
+                .tag("result", "reused")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미지 저장. 동일 체크섬의 객체가 있으면 재사용하고, 없으면 keyForContentType으로 만든 키에 업로드
+     * - 한 파트에 들어가는 이미지(대부분)는 업로드 전에 체크섬을 알 수 있어 중복이면 올리지 않는다
+     * - 파트 크기를 넘는 이미지는 스트리밍 업로드 중에 체크섬이 확정되므로, 중복이면 방금 올린 객체를 지운다
+     */
+    public StoredImage store(InputStream in, Function<String, String> keyForContentType) throws IOException {
+        PendingUpload pending = s3StreamingUploader.begin(in);
+        if (pending.fitsInOnePart()) {
+            Optional<String> existingKey = findReusableKey(pending.checksum());
+            if (existingKey.isPresent()) {
+                reusedCounter.increment();
+                log.info("동일 이미지 재사용: checksum={}, key={}", pending.checksum(), existingKey.get());
+                return pending.reuse(existingKey.get());
+            }
+            uploadedCounter.increment();
+            return pending.upload(keyForContentType.apply(pending.contentType()));
+        }
+
+        StoredImage uploaded = pending.upload(keyForContentType.apply(pending.contentType()));
+        Optional<String> existingKey = findReusableKey(uploaded.checksum());
+        if (existingKey.isEmpty()) {
+            uploadedCounter.increment();
+            return uploaded;
+        }
+        try {
+            // 방금 만든 키는 아직 어떤 행도 참조하지 않으므로 바로 지워도 안전
+            s3StreamingUploader.delete(uploaded.s3Key());
+        } catch (Exception e) {
+            log.warn("중복 이미지 객체 삭제 실패 (고아 객체로 남음): key={}, {}", uploaded.s3Key(), e.getMessage());
+        }
+        reusedCounter.increment();
+        log.info("동일 이미지 재사용 (업로드 후 판별): checksum={}, key={}", uploaded.checksum(), existingKey.get());
+        return uploaded.withS3Key(existingKey.get());
+    }
+
+    private Optional<String> findReusableKey(String checksum) {
+        return caseFileRepository.findFirstByChecksumOrderByIdAsc(checksum)
+                .filter(file -> bucketName.equals(file.getS3Bucket()))
+                .map(CaseFile::getS3Key);
+    }
+}
@@ -5,24 +5,30 @@ import com.topoom.external.blog.dto.CrawlResult;
 import com.topoom.external.blog.dto.ExtractedImageInfo;
 import com.topoom.external.blog.entity.BlogPost;
 import com.topoom.external.blog.repository.BlogPostRepository;
+import com.topoom.external.blog.webdriver.WebDriverPool;
 import com.topoom.missingcase.entity.CaseContact;
 import com.topoom.missingcase.entity.CaseFile;
 import com.topoom.missingcase.entity.MissingCase;
 import com.topoom.missingcase.repository.CaseContactRepository;
 import com.topoom.missingcase.repository.MissingCaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
-import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -33,19 +39,32 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class IntegratedBlogCrawlingService {
 
-    private final ObjectFactory<WebDriver> webDriverFactory; // ✅ prototype WebDriver
-    private final BlogS3ImageUploadService blogS3ImageUploadService;
+    private final WebDriverPool webDriverPool; // ✅ 재사용되는 WebDriver 세션 풀
+    private final BlogImageIngestionService blogImageIngestionService;
     private final CaseContactRepository caseContactRepository;
     private final BlogPostRepository blogPostRepository;
     private final MissingCaseRepository missingCaseRepository;
+    private final BlogPostHtmlFetcher blogPostHtmlFetcher;
+    private final MeterRegistry meterRegistry;
 
     private static final int WAIT_TIMEOUT_SECONDS = 10;
+    private static final String PATH_STATIC = "static";
+    private static final String PATH_SELENIUM = "selenium";
     private static final int MAX_PAGES = 50;
 
     // 연락처 정규식
     private static final Pattern PHONE_PATTERN = Pattern.compile(
             "(\\d{2,3}[-\\s\\.\\u2010-\\u2015]*\\d{3,4}[-\\s\\.\\u2010-\\u2015]*\\d{4})"
     );
+    // 네이버 블로그 본문 단락: .se-main-container > .se-component > .se-component-content > .se-section > .se-module > .se-text-paragraph
+    private static final String[] PARAGRAPH_SELECTORS = {
+            ".se-main-container .se-text-paragraph",
+            ".se-component-content .se-text-paragraph",
+            ".se-section-text .se-text-paragraph",
+            ".se-module-text .se-text-paragraph",
+            ".post-view .se-text-paragraph",
+            ".wrap_rabbit .se-text-paragraph"
+    };
     private static final Pattern ORGANIZATION_PATTERN = Pattern.compile(
             "([가-힣]+\\s*[가-힣]*경찰서|[가-힣]+청\\s+[가-힣]+경찰서|[가-힣]+\\s+[가-힣]+경찰서|[가-힣]*실종수사팀|[가-힣]*수사팀)"
     );
@@ -55,7 +74,7 @@ public class IntegratedBlogCrawlingService {
 
     /** 카테고리 목록만 크롤링 & 저장 */
     public CrawlResult crawlCategoryPostsWithSelenium(String blogId, String categoryNo) {
-        return withDriver(driver -> {
+        return withDriver(webDriverPool.borrow(), driver -> {
             String categoryUrl = String.format(
                     "https://blog.naver.com/PostList.naver?blogId=%s&categoryNo=%s",
                     blogId, categoryNo);
@@ -92,56 +111,113 @@ public class IntegratedBlogCrawlingService {
         });
     }
 
-    /** 개별 게시글: 이미지 업로드 + 연락처 추출/저장 */
+    /**
+     * 개별 게시글: 이미지 업로드 + 연락처 추출/저장
+     * 정적 HTML(Jsoup)로 먼저 추출하고, 이미지를 찾지 못한 경우에만 Selenium으로 재시도한다.
+     * 결과의 extractionPath(static | selenium), elapsedMs로 처리 경로와 소요 시간을 확인할 수 있다.
+     */
     public Map<String, Object> extractAndUploadImagesWithContacts(String postUrl, Long caseId) {
-        return withDriver(driver -> {
-            log.info("게시글 처리 시작: {}", postUrl);
-            driver.get(postUrl);
+        log.info("게시글 처리 시작: {}", postUrl);
+        long start = System.nanoTime();
+
+        String path = PATH_STATIC;
+        Map<String, Object> result = extractWithJsoup(postUrl, caseId);
+        if (result == null) {
+            path = PATH_SELENIUM;
+            // 메시지 소비 스레드를 오래 붙잡지 않도록 짧게만 기다린다 (시간 초과 시 지연 재시도)
+            result = withDriver(webDriverPool.tryBorrow(), driver -> extractWithSelenium(driver, postUrl, caseId));
+        }
 
-            try { waitFor(driver, By.className("se-main-container")); }
-            catch (Exception ignored) { /* fallback 가능 */ }
+        long elapsedNanos = System.nanoTime() - start;
+        Timer.builder("blog.post.extraction")
+                .description("블로그 게시글 이미지/연락처 추출 소요 시간")
+                .tag("path", path)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        result.put("extractionPath", path);
+        result.put("elapsedMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        log.info("게시글 처리 완료: path={}, {}ms, images s/f={}, contacts={}",
+                path, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), result.get("imageStats"), result.get("contactCount"));
+        return result;
+    }
 
-            List<ExtractedImageInfo> extractedImages = extractImagesFromWebDriver(driver, postUrl);
-            int imageSuccess = 0, imageFail = 0;
-            List<CaseFile> uploadedFiles = new ArrayList<>();
+    /** 정적 HTML 경로. 이미지를 하나도 찾지 못하면 null (Selenium 대체) */
+    private Map<String, Object> extractWithJsoup(String postUrl, Long caseId) {
+        Document document;
+        try {
+            document = blogPostHtmlFetcher.fetchPostDocument(postUrl);
+        } catch (Exception e) {
+            log.warn("정적 HTML 조회 실패, Selenium으로 대체: {} - {}", postUrl, e.getMessage());
+            return null;
+        }
 
-            for (int i = 0; i < extractedImages.size(); i++) {
-                ExtractedImageInfo img = extractedImages.get(i);
-                try {
-                    String sourceTitle = driver.getTitle(); // 페이지 제목 가져오기
-                    Integer sourceSeq = i + 1; // 이미지 순서 (1부터 시작)
-                    Boolean isLastImage = (i == extractedImages.size() - 1); // 마지막 이미지 여부
-
-                    CaseFile saved = blogS3ImageUploadService
-                            .downloadAndUploadImage(img.getImageUrl(), postUrl, caseId,
-                                    sourceTitle, sourceSeq, isLastImage);
-                    uploadedFiles.add(saved);
-                    imageSuccess++;
-                    log.info("이미지 업로드 성공: seq={}, isLast={}, url={}", sourceSeq, isLastImage, img.getImageUrl());
-                } catch (Exception e) {
-                    imageFail++;
-                    log.error("이미지 업로드 실패: {} - {}", img.getImageUrl(), e.getMessage());
-                }
-            }
+        List<ExtractedImageInfo> extractedImages = extractImagesFromDocument(document, postUrl);
+        if (extractedImages.isEmpty()) {
+            log.info("정적 HTML에서 이미지 없음, Selenium으로 대체: {}", postUrl);
+            return null;
+        }
 
-            // 연락처 크롤링
-            log.info("🔍 연락처 크롤링 시작 - postUrl: {}, caseId: {}", postUrl, caseId);
-            List<CaseContact> contacts = new ArrayList<>();
-            try {
-                contacts = extractAndSaveContactsFromHtml(driver, postUrl, caseId);
-                log.info("✅ 연락처 크롤링 완료 - 추출된 개수: {}", contacts.size());
-            } catch (Exception e) {
-                log.error("❌ 연락처 크롤링 실패: {}", e.getMessage(), e);
-            }
+        String sourceTitle = document.title();
+        List<CaseFile> uploadedFiles = new ArrayList<>();
+        int imageFail = uploadImages(extractedImages, postUrl, caseId, sourceTitle, uploadedFiles);
 
-            Map<String, Object> result = new HashMap<>();
-            result.put("images", uploadedFiles);
-            result.put("contacts", contacts);
-            result.put("imageStats", Map.of("success", imageSuccess, "fail", imageFail));
-            result.put("contactCount", contacts.size());
-            log.info("게시글 처리 완료: images s/f={}/{}, contacts={}", imageSuccess, imageFail, contacts.size());
-            return result;
-        });
+        log.info("🔍 연락처 크롤링 시작(정적) - postUrl: {}, caseId: {}", postUrl, caseId);
+        List<CaseContact> contacts = new ArrayList<>();
+        try {
+            contacts = extractAndSaveContactsFromDocument(document, postUrl, sourceTitle, caseId);
+            log.info("✅ 연락처 크롤링 완료 - 추출된 개수: {}", contacts.size());
+        } catch (Exception e) {
+            log.error("❌ 연락처 크롤링 실패: {}", e.getMessage(), e);
+        }
+
+        return buildPostResult(uploadedFiles, imageFail, contacts);
+    }
+
+    /** 브라우저 경로 (동적 렌더링이 필요한 게시글) */
+    private Map<String, Object> extractWithSelenium(WebDriver driver, String postUrl, Long caseId) {
+        driver.get(postUrl);
+
+        try { waitFor(driver, By.className("se-main-container")); }
+        catch (Exception ignored) { /* fallback 가능 */ }
+
+        List<ExtractedImageInfo> extractedImages = extractImagesFromWebDriver(driver, postUrl);
+        String sourceTitle = driver.getTitle(); // 페이지 제목 가져오기
+        List<CaseFile> uploadedFiles = new ArrayList<>();
+        int imageFail = uploadImages(extractedImages, postUrl, caseId, sourceTitle, uploadedFiles);
+
+        // 연락처 크롤링
+        log.info("🔍 연락처 크롤링 시작 - postUrl: {}, caseId: {}", postUrl, caseId);
+        List<CaseContact> contacts = new ArrayList<>();
+        try {
+            contacts = extractAndSaveContactsFromHtml(driver, postUrl, caseId);
+            log.info("✅ 연락처 크롤링 완료 - 추출된 개수: {}", contacts.size());
+        } catch (Exception e) {
+            log.error("❌ 연락처 크롤링 실패: {}", e.getMessage(), e);
+        }
+
+        return buildPostResult(uploadedFiles, imageFail, contacts);
+    }
+
+    /**
+     * 추출된 이미지를 병렬로 다운로드/업로드 (저장은 순서대로)
+     * @return 실패 건수 (성공한 파일은 uploadedFiles에 추가)
+     */
+    private int uploadImages(List<ExtractedImageInfo> extractedImages, String postUrl, Long caseId,
+                             String sourceTitle, List<CaseFile> uploadedFiles) {
+        BlogImageIngestionService.IngestResult ingested =
+                blogImageIngestionService.ingest(extractedImages, postUrl, caseId, sourceTitle);
+        uploadedFiles.addAll(ingested.files());
+        return ingested.failCount();
+    }
+
+    private Map<String, Object> buildPostResult(List<CaseFile> uploadedFiles, int imageFail, List<CaseContact> contacts) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("images", uploadedFiles);
+        result.put("contacts", contacts);
+        result.put("imageStats", Map.of("success", uploadedFiles.size(), "fail", imageFail));
+        result.put("contactCount", contacts.size());
+        return result;
     }
 
     /** 이미지만 업로드(호환) */
@@ -152,17 +228,16 @@ public class IntegratedBlogCrawlingService {
     }
     // ────────────────────────── Internal helpers ──────────────────────────
 
-    /** 새 WebDriver를 열고, 종료(quit)까지 보장하는 안전 래퍼 */
-    private <T> T withDriver(Function<WebDriver, T> work) {
-        WebDriver driver = webDriverFactory.getObject();
+    /** 풀에서 빌린 WebDriver로 작업 후 반납 (브라우저 오류 시 세션 폐기) */
+    private <T> T withDriver(WebDriverPool.PooledWebDriver session, Function<WebDriver, T> work) {
+        boolean broken = false;
         try {
-            return work.apply(driver);
+            return work.apply(session.driver());
+        } catch (WebDriverException e) {
+            broken = true;
+            throw e;
         } finally {
-            try {
-                driver.quit();
-            } catch (Exception e) {
-                log.warn("WebDriver 종료 중 오류: {}", e.getMessage());
-            }
+            webDriverPool.release(session, broken);
         }
     }
 
@@ -293,6 +368,24 @@ public class IntegratedBlogCrawlingService {
         return images;
     }
 
+    /** 정적 HTML에서 이미지 추출 (지연 로딩 이미지는 data-lazy-src에 원본 경로가 있음) */
+    private List<ExtractedImageInfo> extractImagesFromDocument(Document document, String postUrl) {
+        List<ExtractedImageInfo> images = new ArrayList<>();
+        for (Element img : document.select(".se-image img")) {
+            String src = img.hasAttr("data-lazy-src") ? img.absUrl("data-lazy-src") : img.absUrl("src");
+            String url = convertToFullSizeUrl(src);
+            if (isValidImageUrl(url)) {
+                images.add(ExtractedImageInfo.builder()
+                        .imageUrl(url)
+                        .altText(img.attr("alt"))
+                        .sourcePostUrl(postUrl)
+                        .extractedAt(LocalDateTime.now())
+                        .build());
+            }
+        }
+        return images;
+    }
+
     /** 썸네일 → 원본 크기 변환(네이버 postfiles 전용 휴리스틱) */
     private String convertToFullSizeUrl(String imageUrl) {
         if (imageUrl == null) return null;
@@ -327,19 +420,9 @@ public class IntegratedBlogCrawlingService {
             }
 
             // 2단계: 네이버 블로그 본문 구조에 맞는 상세 검색
-            // 실제 HTML 구조: .se-main-container > .se-component > .se-component-content > .se-section > .se-module > .se-text-paragraph
-            String[] detailedSelectors = {
-                    ".se-main-container .se-text-paragraph",
-                    ".se-component-content .se-text-paragraph",
-                    ".se-section-text .se-text-paragraph",
-                    ".se-module-text .se-text-paragraph",
-                    ".post-view .se-text-paragraph",
-                    ".wrap_rabbit .se-text-paragraph"
-            };
-
             Set<WebElement> processedParagraphs = new HashSet<>();
 
-            for (String selector : detailedSelectors) {
+            for (String selector : PARAGRAPH_SELECTORS) {
                 List<WebElement> paragraphs = driver.findElements(By.cssSelector(selector));
                 for (WebElement paragraph : paragraphs) {
                     if (processedParagraphs.contains(paragraph)) continue;
@@ -349,23 +432,7 @@ public class IntegratedBlogCrawlingService {
                         String text = paragraph.getText();
                         if (text == null || text.trim().isEmpty()) continue;
 
-                        Matcher matcher = PHONE_PATTERN.matcher(text);
-                        while (matcher.find()) {
-                            String phoneNumber = matcher.group(1);
-                            if (isValidPhoneNumber(phoneNumber)) {
-                                // 이미 추출된 전화번호인지 확인
-                                boolean alreadyExtracted = contacts.stream()
-                                        .anyMatch(c -> normalizePhoneNumber(c.getPhoneNumber())
-                                                .equals(normalizePhoneNumber(phoneNumber)));
-
-                                if (!alreadyExtracted) {
-                                    String organization = extractOrganizationFromText(text);
-                                    CaseContact contact = createCaseContact(organization, phoneNumber, postUrl, sourceTitle, caseId);
-                                    if (contact != null) contacts.add(contact);
-                                    log.info("텍스트에서 추출: {} - {}", organization, phoneNumber);
-                                }
-                            }
-                        }
+                        collectContactsFromText(text, contacts, postUrl, sourceTitle, caseId);
                     } catch (Exception e) {
                         log.debug("단락 처리 실패: {}", e.getMessage());
                     }
@@ -399,6 +466,91 @@ public class IntegratedBlogCrawlingService {
         return contacts;
     }
 
+    /** 정적 HTML 기반 연락처 추출 & 저장 (Selenium 경로와 같은 3단계) */
+    private List<CaseContact> extractAndSaveContactsFromDocument(Document document, String postUrl,
+                                                                  String sourceTitle, Long caseId) {
+        List<CaseContact> contacts = new ArrayList<>();
+
+        // 1단계: tel: 링크
+        for (Element link : document.select("a[href^=tel:]")) {
+            String phoneNumber = link.attr("href").replace("tel:", "").trim();
+            if (isValidPhoneNumber(phoneNumber)) {
+                String organization = extractOrganizationFromNode(link);
+                CaseContact contact = createCaseContact(organization, phoneNumber, postUrl, sourceTitle, caseId);
+                if (contact != null) contacts.add(contact);
+                log.info("전화번호 링크에서 추출: {} - {}", organization, phoneNumber);
+            }
+        }
+
+        // 2단계: 본문 단락
+        Set<Element> processedParagraphs = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String selector : PARAGRAPH_SELECTORS) {
+            for (Element paragraph : document.select(selector)) {
+                if (!processedParagraphs.add(paragraph)) continue;
+                String text = paragraph.text();
+                if (text.isBlank()) continue;
+                collectContactsFromText(text, contacts, postUrl, sourceTitle, caseId);
+            }
+        }
+
+        // 3단계: fallback - 본문 전체에서 첫 번째 번호
+        if (contacts.isEmpty() && document.body() != null) {
+            String fullPageText = document.body().text();
+            Matcher matcher = PHONE_PATTERN.matcher(fullPageText);
+            while (matcher.find()) {
+                String phoneNumber = matcher.group(1);
+                if (isValidPhoneNumber(phoneNumber)) {
+                    String organization = extractOrganizationFromText(fullPageText);
+                    CaseContact contact = createCaseContact(organization, phoneNumber, postUrl, sourceTitle, caseId);
+                    if (contact != null) contacts.add(contact);
+                    log.info("페이지 전체에서 추출: {} - {}", organization, phoneNumber);
+                    break;
+                }
+            }
+        }
+
+        return contacts;
+    }
+
+    /** 단락 텍스트에서 아직 추출되지 않은 전화번호를 연락처로 저장 */
+    private void collectContactsFromText(String text, List<CaseContact> contacts, String postUrl,
+                                         String sourceTitle, Long caseId) {
+        Matcher matcher = PHONE_PATTERN.matcher(text);
+        while (matcher.find()) {
+            String phoneNumber = matcher.group(1);
+            if (isValidPhoneNumber(phoneNumber)) {
+                // 이미 추출된 전화번호인지 확인
+                boolean alreadyExtracted = contacts.stream()
+                        .anyMatch(c -> normalizePhoneNumber(c.getPhoneNumber())
+                                .equals(normalizePhoneNumber(phoneNumber)));
+
+                if (!alreadyExtracted) {
+                    String organization = extractOrganizationFromText(text);
+                    CaseContact contact = createCaseContact(organization, phoneNumber, postUrl, sourceTitle, caseId);
+                    if (contact != null) contacts.add(contact);
+                    log.info("텍스트에서 추출: {} - {}", organization, phoneNumber);
+                }
+            }
+        }
+    }
+
+    /** 정적 HTML의 전화번호 링크 주변에서 조직명 추출 */
+    private String extractOrganizationFromNode(Element phoneElement) {
+        Element paragraph = phoneElement.closest("p.se-text-paragraph");
+        if (paragraph == null) {
+            Element parent = phoneElement.parent();
+            return parent != null ? extractOrganizationFromText(parent.text()) : "알 수 없음";
+        }
+
+        for (Element span : paragraph.select("span")) {
+            String spanText = span.text();
+            if (!spanText.isBlank() && !spanText.contains("010") && !spanText.contains("02")) {
+                return extractOrganizationFromText(spanText);
+            }
+        }
+        return extractOrganizationFromText(paragraph.text());
+    }
+
     /** HTML 요소에서 조직명 추출 */
     private String extractOrganizationFromElement(WebElement phoneElement) {
         try {
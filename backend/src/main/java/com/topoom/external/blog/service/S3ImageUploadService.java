@@ -1,5 +1,6 @@
 package com.topoom.external.blog.service;
 
+import com.topoom.external.blog.service.S3StreamingUploader.StoredImage;
 import com.topoom.missingcase.entity.CaseFile;
 import com.topoom.missingcase.entity.MissingCase;
 import com.topoom.missingcase.repository.CaseFileRepository;
@@ -8,18 +9,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
-import java.security.MessageDigest;
+import java.net.URLConnection;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Base64;
 import java.util.Optional;
 
 @Slf4j
@@ -27,7 +24,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class S3ImageUploadService {
 
-    private final S3Client s3Client;
+    private final ContentAddressedImageStore contentAddressedImageStore;
     private final CaseFileRepository caseFileRepository;
     private final EntityManager entityManager;
 
@@ -38,29 +35,12 @@ public class S3ImageUploadService {
         try {
             log.info("이미지 다운로드 및 S3 업로드 시작: {}", imageUrl);
 
-            byte[] imageData = downloadImageFromUrl(imageUrl);
-            if (imageData == null || imageData.length == 0) {
-                throw new RuntimeException("이미지 다운로드 실패: " + imageUrl);
+            StoredImage stored;
+            try (InputStream in = openImageStream(imageUrl)) {
+                stored = contentAddressedImageStore.store(in,
+                        contentType -> generateS3Key(caseId, S3StreamingUploader.fileExtension(contentType)));
             }
 
-            String contentType = detectContentType(imageData);
-            String fileExtension = getFileExtension(contentType);
-            String s3Key = generateS3Key(caseId, fileExtension);
-
-            BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageData));
-
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .contentType(contentType)
-                    .contentLength((long) imageData.length)
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(imageData));
-
-            log.info("이미지 S3 업로드 완료: bucket={}, key={}, size={}bytes",
-                    bucketName, s3Key, imageData.length);
-
             MissingCase missingCase = null;
             if (caseId != null) {
                 missingCase = entityManager.getReference(MissingCase.class, caseId);
@@ -71,10 +51,13 @@ public class S3ImageUploadService {
                     .ioRole(CaseFile.IoRole.INPUT)
                     .purpose(CaseFile.Purpose.OCR)
                     .contentKind(CaseFile.ContentKind.IMAGE)
-                    .s3Key(s3Key)
+                    .s3Key(stored.s3Key())
                     .s3Bucket(bucketName)
-                    .contentType(contentType)
-                    .sizeBytes((long) imageData.length)
+                    .contentType(stored.contentType())
+                    .sizeBytes(stored.sizeBytes())
+                    .checksum(stored.checksum())
+                    .width(stored.width())
+                    .height(stored.height())
                     .sourceUrl(imageUrl)
                     .crawledAt(LocalDateTime.now())
                     .build();
@@ -103,54 +86,13 @@ public class S3ImageUploadService {
                 return existing.get();
             }
 
-
-            log.info("Base64 이미지 업로드 시작 (caseId={})", caseId);
-
-            byte[] imageBytes = Base64.getDecoder().decode(base64Data);
-
-            String contentType = detectContentType(imageBytes);
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
-            String suffix = java.util.UUID.randomUUID().toString().replace("-", "").substring(0, 8);
-
-            String s3Key = (caseId != null) ?
-                    String.format("old/missing-person-%d/%s-%s.%s", caseId, timestamp, suffix, getFileExtension(contentType)) :
-                    String.format("old/crawled-unassigned/%s-%s.%s", timestamp, suffix, getFileExtension(contentType));
-
-            BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageBytes));
-
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .contentType(contentType)
-                    .contentLength((long) imageBytes.length)
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(imageBytes));
-
-            MissingCase missingCase = null;
-            if (caseId != null) {
-                missingCase = entityManager.getReference(MissingCase.class, caseId);
-            }
-
-            CaseFile caseFile = CaseFile.builder()
-                    .missingCase(missingCase)
-                    .ioRole(CaseFile.IoRole.INPUT)
-                    .purpose(CaseFile.Purpose.SAFE)
-                    .contentKind(CaseFile.ContentKind.IMAGE)
-                    .s3Key(s3Key)
-                    .s3Bucket(bucketName)
-                    .contentType(contentType)
-                    .sizeBytes((long) imageBytes.length)
-                    .sourceUrl("https://www.safe182.go.kr")
-                    .sourceTitle("실종경보")
-                    .sourceSeq(0)
-                    .crawledAt(LocalDateTime.now())
-                    .build();
+            CaseFile caseFile = uploadBase64Object(base64Data, caseId);
+            caseFile.setMissingCase(mc);
 
             CaseFile saved = caseFileRepository.save(caseFile);
 
             log.info("Base64 이미지 업로드 완료: id={}, bucket={}, key={}, size={} bytes",
-                    saved.getId(), bucketName, s3Key, imageBytes.length);
+                    saved.getId(), bucketName, saved.getS3Key(), saved.getSizeBytes());
 
             return saved;
         } catch (Exception e) {
@@ -159,68 +101,52 @@ public class S3ImageUploadService {
         }
     }
 
-    private byte[] downloadImageFromUrl(String imageUrl) {
-        try {
-            URL url = new URL(imageUrl);
-            var connection = url.openConnection();
-            connection.setRequestProperty("User-Agent",
-                    "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
-            connection.setRequestProperty("Referer", "https://blog.naver.com/");
-            connection.setConnectTimeout(10000);
-            connection.setReadTimeout(30000);
-
-            byte[] data = connection.getInputStream().readAllBytes();
-            log.info("이미지 다운로드 성공: {} bytes from {}", data.length, imageUrl);
-            return data;
-        } catch (Exception e) {
-            log.error("이미지 다운로드 실패: {}", imageUrl, e);
-            return null;
-        }
-    }
-
-    private String detectContentType(byte[] imageData) {
-        try {
-            if (imageData.length < 12) return "image/jpeg";
+    /**
+     * Base64 이미지를 S3에만 업로드하고 저장되지 않은 CaseFile을 반환
+     * DB 작업이 없으므로 트랜잭션 밖의 작업 스레드에서 병렬로 호출할 수 있다.
+     * missingCase 연결과 저장은 호출자가 트랜잭션 안에서 수행한다.
+     */
+    public CaseFile uploadBase64Object(String base64Data, Long caseId) {
+        log.info("Base64 이미지 업로드 시작 (caseId={})", caseId);
 
-            if (imageData[0] == (byte) 0xFF && imageData[1] == (byte) 0xD8) {
-                return "image/jpeg";
-            }
-
-            if (imageData[0] == (byte) 0x89 && imageData[1] == (byte) 0x50 &&
-                    imageData[2] == (byte) 0x4E && imageData[3] == (byte) 0x47) {
-                return "image/png";
-            }
-
-            if (imageData[0] == (byte) 0x47 && imageData[1] == (byte) 0x49 &&
-                    imageData[2] == (byte) 0x46) {
-                return "image/gif";
-            }
-
-            if (imageData[0] == (byte) 0x42 && imageData[1] == (byte) 0x4D) {
-                return "image/bmp";
-            }
-
-            if (imageData[8] == (byte) 0x57 && imageData[9] == (byte) 0x45 &&
-                    imageData[10] == (byte) 0x42 && imageData[11] == (byte) 0x50) {
-                return "image/webp";
-            }
-
-            return "image/jpeg";
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        String suffix = java.util.UUID.randomUUID().toString().replace("-", "").substring(0, 8);
 
-        } catch (Exception e) {
-            log.warn("Content type 감지 실패, JPEG로 기본 설정: {}", e.getMessage());
-            return "image/jpeg";
+        StoredImage stored;
+        try (InputStream in = S3StreamingUploader.base64Stream(base64Data)) {
+            stored = contentAddressedImageStore.store(in, contentType -> (caseId != null) ?
+                    String.format("old/missing-person-%d/%s-%s.%s", caseId, timestamp, suffix, S3StreamingUploader.fileExtension(contentType)) :
+                    String.format("old/crawled-unassigned/%s-%s.%s", timestamp, suffix, S3StreamingUploader.fileExtension(contentType)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Base64 이미지 업로드 실패", e);
         }
+
+        return CaseFile.builder()
+                .ioRole(CaseFile.IoRole.INPUT)
+                .purpose(CaseFile.Purpose.SAFE)
+                .contentKind(CaseFile.ContentKind.IMAGE)
+                .s3Key(stored.s3Key())
+                .s3Bucket(bucketName)
+                .contentType(stored.contentType())
+                .sizeBytes(stored.sizeBytes())
+                .checksum(stored.checksum())
+                .width(stored.width())
+                .height(stored.height())
+                .sourceUrl("https://www.safe182.go.kr")
+                .sourceTitle("실종경보")
+                .sourceSeq(0)
+                .crawledAt(LocalDateTime.now())
+                .build();
     }
 
-    private String getFileExtension(String contentType) {
-        return switch (contentType) {
-            case "image/png" -> "png";
-            case "image/gif" -> "gif";
-            case "image/bmp" -> "bmp";
-            case "image/webp" -> "webp";
-            default -> "jpg";
-        };
+    private InputStream openImageStream(String imageUrl) throws IOException {
+        URLConnection connection = new URL(imageUrl).openConnection();
+        connection.setRequestProperty("User-Agent",
+                "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
+        connection.setRequestProperty("Referer", "https://blog.naver.com/");
+        connection.setConnectTimeout(10000);
+        connection.setReadTimeout(30000);
+        return connection.getInputStream();
     }
 
     private String generateS3Key(Long caseId, String extension) {
@@ -236,23 +162,4 @@ public class S3ImageUploadService {
                     timestamp, suffix, extension);
         }
     }
-
-    private String calculateSHA256(byte[] data) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(data);
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (Exception e) {
-            log.error("SHA-256 체크섬 계산 실패", e);
-            return null;
-        }
-    }
 }
@@ -0,0 +1,261 @@
+package com.topoom.external.blog.service;
+
+import com.topoom.common.HashUtils;
+import com.topoom.common.ImageHeaderSniffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 이미지 스트리밍 업로드
+ * 입력 스트림을 한 번만 읽으면서 S3 업로드, SHA-256 계산, 헤더 기반 크기 판별을 함께 수행한다.
+ * 메모리는 파트 버퍼 하나(최대 partSize)만 사용하며, 파트 크기를 넘는 이미지는 멀티파트로 업로드한다.
+ * 첫 파트를 읽은 뒤 업로드 전에 멈추므로(begin), 한 파트에 들어가는 이미지는 올리기 전에 체크섬을 알 수 있다.
+ */
+@Slf4j
+@Component
+public class S3StreamingUploader {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024; // S3 멀티파트 최소 크기
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final int partSize;
+
+    public S3StreamingUploader(S3Client s3Client,
+                               @Value("${spring.cloud.aws.s3.bucket}") String bucketName,
+                               @Value("${storage.upload.part-size-mb:5}") int partSizeMb) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.partSize = Math.max(MIN_PART_SIZE, partSizeMb * 1024 * 1024);
+    }
+
+    /**
+     * 업로드된 이미지 정보 (크기를 알 수 없으면 width/height는 null)
+     */
+    public record StoredImage(String s3Key, String contentType, long sizeBytes,
+                              String checksum, Integer width, Integer height) {
+
+        public StoredImage withS3Key(String otherKey) {
+            return new StoredImage(otherKey, contentType, sizeBytes, checksum, width, height);
+        }
+    }
+
+    /**
+     * 첫 파트까지 읽고 업로드 대기 (스트림은 업로드가 끝날 때까지 열어 두어야 한다)
+     */
+    public PendingUpload begin(InputStream in) throws IOException {
+        PendingUpload pending = new PendingUpload(in);
+        pending.buffer.fill(in, partSize, pending.digest, pending.sniffer);
+        if (pending.buffer.length == 0) {
+            throw new IOException("빈 이미지 스트림");
+        }
+        return pending;
+    }
+
+    /**
+     * 업로드한 객체 삭제 (중복으로 판명된 새 객체 정리용)
+     */
+    public void delete(String s3Key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .build());
+    }
+
+    /**
+     * Base64 문자열을 디코딩된 바이트 스트림으로 노출 (디코딩 결과 전체를 배열로 만들지 않음)
+     */
+    public static InputStream base64Stream(String base64Data) {
+        InputStream ascii = new InputStream() {
+            private int pos;
+
+            @Override
+            public int read() {
+                return pos < base64Data.length() ? base64Data.charAt(pos++) : -1;
+            }
+        };
+        return Base64.getDecoder().wrap(ascii);
+    }
+
+    public static String fileExtension(String contentType) {
+        return switch (contentType) {
+            case "image/png" -> "png";
+            case "image/gif" -> "gif";
+            case "image/bmp" -> "bmp";
+            case "image/webp" -> "webp";
+            default -> "jpg";
+        };
+    }
+
+    /**
+     * 첫 파트를 읽은 상태의 업로드
+     * - 한 파트에 다 들어왔으면(fitsInOnePart) 체크섬/크기가 이미 확정되어 있다
+     * - 아니면 upload 중에 나머지를 읽으며 멀티파트로 올리고, 체크섬은 업로드 후 확정된다
+     */
+    public final class PendingUpload {
+        private final InputStream in;
+        private final MessageDigest digest = HashUtils.newSha256();
+        private final ImageHeaderSniffer sniffer = new ImageHeaderSniffer();
+        private final PartBuffer buffer = new PartBuffer();
+        private String checksum;
+
+        private PendingUpload(InputStream in) {
+            this.in = in;
+        }
+
+        public boolean fitsInOnePart() {
+            return buffer.eof;
+        }
+
+        public String contentType() {
+            return sniffer.contentType();
+        }
+
+        /**
+         * 한 파트에 들어가는 이미지의 체크섬 (업로드 전 조회 가능)
+         */
+        public String checksum() {
+            if (!buffer.eof) {
+                throw new IllegalStateException("파트 크기를 넘는 이미지는 업로드 후에 체크섬이 확정됩니다.");
+            }
+            if (checksum == null) {
+                checksum = HexFormat.of().formatHex(digest.digest());
+            }
+            return checksum;
+        }
+
+        /**
+         * 업로드 없이 기존 객체를 가리키는 결과 (한 파트 이미지만)
+         */
+        public StoredImage reuse(String s3Key) {
+            return new StoredImage(s3Key, contentType(), buffer.length, checksum(), sniffer.width(), sniffer.height());
+        }
+
+        public StoredImage upload(String s3Key) throws IOException {
+            String contentType = contentType();
+            long size;
+            if (buffer.eof) {
+                // 한 파트에 들어가는 이미지는 단일 PUT
+                s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(bucketName)
+                                .key(s3Key)
+                                .contentType(contentType)
+                                .contentLength((long) buffer.length)
+                                .build(),
+                        buffer.requestBody());
+                size = buffer.length;
+                checksum();
+            } else {
+                size = uploadMultipart(s3Key, contentType);
+                checksum = HexFormat.of().formatHex(digest.digest());
+            }
+
+            log.info("이미지 S3 스트리밍 업로드 완료: key={}, size={}bytes, {}x{}",
+                    s3Key, size, sniffer.width(), sniffer.height());
+            return new StoredImage(s3Key, contentType, size, checksum, sniffer.width(), sniffer.height());
+        }
+
+        private long uploadMultipart(String s3Key, String contentType) throws IOException {
+            String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .contentType(contentType)
+                    .build()).uploadId();
+
+            List<CompletedPart> parts = new ArrayList<>();
+            long size = 0;
+            try {
+                int partNumber = 1;
+                while (buffer.length > 0) {
+                    String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                    .bucket(bucketName)
+                                    .key(s3Key)
+                                    .uploadId(uploadId)
+                                    .partNumber(partNumber)
+                                    .contentLength((long) buffer.length)
+                                    .build(),
+                            buffer.requestBody()).eTag();
+                    parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                    size += buffer.length;
+                    partNumber++;
+
+                    if (buffer.eof) {
+                        break;
+                    }
+                    buffer.fill(in, partSize, digest, sniffer);
+                }
+
+                s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .uploadId(uploadId)
+                        .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                        .build());
+                return size;
+            } catch (IOException | RuntimeException e) {
+                try {
+                    s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(s3Key)
+                            .uploadId(uploadId)
+                            .build());
+                } catch (Exception abortError) {
+                    log.warn("멀티파트 업로드 취소 실패: key={}, {}", s3Key, abortError.getMessage());
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 재사용되는 파트 버퍼. 작은 이미지는 작은 배열만 쓰도록 필요할 때만 partSize까지 늘린다.
+     */
+    private static final class PartBuffer {
+        private byte[] data = new byte[INITIAL_BUFFER_SIZE];
+        private int length;
+        private boolean eof;
+
+        void fill(InputStream in, int maxLength, MessageDigest digest, ImageHeaderSniffer sniffer) throws IOException {
+            length = 0;
+            while (length < maxLength) {
+                if (length == data.length) {
+                    data = Arrays.copyOf(data, Math.min(maxLength, data.length * 2));
+                }
+                int read = in.read(data, length, data.length - length);
+                if (read < 0) {
+                    eof = true;
+                    break;
+                }
+                digest.update(data, length, read);
+                sniffer.update(data, length, read);
+                length += read;
+            }
+        }
+
+        RequestBody requestBody() {
+            return RequestBody.fromInputStream(new ByteArrayInputStream(data, 0, length), length);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.topoom.external.blog.webdriver;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebDriver 세션 풀
+ * - 동시에 사용할 수 있는 브라우저 수를 제한 (최대 크기 및 전체 메모리 한도 기준)
+ * - 미리 띄워둔(warm) 세션을 재사용하여 Chrome 기동 비용 제거
+ * - 세션당 최대 사용 횟수 초과, 헬스 체크 실패, 오류 발생 시 세션 폐기 후 새로 생성
+ * - 반납 시 쿠키 삭제, 추가 탭 닫기, about:blank 이동으로 상태 초기화
+ * - 메시지 소비 경로는 짧게만 기다리고(tryBorrow) 시간 초과 시 지연 재시도로 넘겨 소비 스레드를 붙잡지 않는다
+ */
+@Slf4j
+@Component
+public class WebDriverPool {
+
+    private final ObjectFactory<WebDriver> webDriverFactory;
+    private final int maxSize;
+    private final int minIdle;
+    private final int maxUsesPerSession;
+    private final Duration maxIdleTime;
+    private final Duration borrowTimeout;
+    private final Duration tryBorrowTimeout;
+
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<PooledWebDriver> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger total = new AtomicInteger();
+    private volatile boolean closed = false;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer borrowWaitTimer;
+    private final Counter createdCounter;
+
+    public WebDriverPool(ObjectFactory<WebDriver> webDriverFactory,
+                         MeterRegistry meterRegistry,
+                         @Value("${webdriver.pool.max-size:4}") int maxSize,
+                         @Value("${webdriver.pool.min-idle:1}") int minIdle,
+                         @Value("${webdriver.pool.max-uses-per-session:50}") int maxUsesPerSession,
+                         @Value("${webdriver.pool.max-idle-minutes:10}") long maxIdleMinutes,
+                         @Value("${webdriver.pool.borrow-timeout-seconds:120}") long borrowTimeoutSeconds,
+                         @Value("${webdriver.pool.try-borrow-timeout-seconds:5}") long tryBorrowTimeoutSeconds,
+                         @Value("${webdriver.pool.max-total-memory-mb:2048}") long maxTotalMemoryMb,
+                         @Value("${webdriver.pool.memory-per-session-mb:400}") long memoryPerSessionMb) {
+        this.webDriverFactory = webDriverFactory;
+        this.meterRegistry = meterRegistry;
+
+        // 전체 브라우저 메모리 한도를 넘지 않도록 풀 크기 제한
+        int memoryBound = (int) Math.max(1, maxTotalMemoryMb / Math.max(1, memoryPerSessionMb));
+        this.maxSize = Math.max(1, Math.min(maxSize, memoryBound));
+        this.minIdle = Math.max(0, Math.min(minIdle, this.maxSize));
+        this.maxUsesPerSession = Math.max(1, maxUsesPerSession);
+        this.maxIdleTime = Duration.ofMinutes(maxIdleMinutes);
+        this.borrowTimeout = Duration.ofSeconds(borrowTimeoutSeconds);
+        this.tryBorrowTimeout = Duration.ofSeconds(tryBorrowTimeoutSeconds);
+        // 공정 모드는 반납된 허가를 대기 순서대로 넘기느라 처리량이 떨어지므로 비공정 모드 사용
+        this.permits = new Semaphore(this.maxSize);
+
+        this.borrowWaitTimer = Timer.builder("webdriver.pool.borrow.wait")
+                .description("WebDriver 세션 대여 대기 시간")
+                .register(meterRegistry);
+        this.createdCounter = Counter.builder("webdriver.pool.created")
+                .description("생성된 WebDriver 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("webdriver.pool.active", active, AtomicInteger::get)
+                .description("사용 중인 WebDriver 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("webdriver.pool.idle", idle, ConcurrentLinkedDeque::size)
+                .description("대기 중인 WebDriver 세션 수")
+                .register(meterRegistry);
+
+        if (this.maxSize < maxSize) {
+            log.info("WebDriver 풀 크기를 메모리 한도에 맞춰 조정: {} → {} (한도 {}MB, 세션당 {}MB)",
+                    maxSize, this.maxSize, maxTotalMemoryMb, memoryPerSessionMb);
+        }
+    }
+
+    /**
+     * 풀에서 빌린 WebDriver 세션
+     */
+    public static final class PooledWebDriver {
+        private final WebDriver driver;
+        private final long createdAt = System.currentTimeMillis();
+        private long lastReturnedAt = System.currentTimeMillis();
+        private int uses;
+
+        private PooledWebDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        public WebDriver driver() {
+            return driver;
+        }
+    }
+
+    /**
+     * 애플리케이션 기동 후 백그라운드에서 세션 미리 생성 (실패해도 기동에는 영향 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (minIdle == 0) {
+            return;
+        }
+        Thread warmer = new Thread(this::fillToMinIdle, "webdriver-pool-warmup");
+        warmer.setDaemon(true);
+        warmer.start();
+    }
+
+    /**
+     * 세션 대여 (풀이 가득 차 있으면 borrowTimeout까지 대기, 스케줄러 등 다시 시도할 수 없는 경로용)
+     */
+    public PooledWebDriver borrow() {
+        return borrow(borrowTimeout);
+    }
+
+    /**
+     * 세션 대여 (풀이 가득 차 있으면 tryBorrowTimeout까지만 대기)
+     * 메시지 소비 경로용: 시간 초과 시 WebDriverPoolExhaustedException으로 메시지를 지연 큐에 되돌린다
+     */
+    public PooledWebDriver tryBorrow() {
+        return borrow(tryBorrowTimeout);
+    }
+
+    private PooledWebDriver borrow(Duration timeout) {
+        if (closed) {
+            throw new IllegalStateException("WebDriver 풀이 종료되었습니다.");
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new WebDriverPoolExhaustedException("WebDriver 세션 대기 시간 초과 (" + timeout.toSeconds() + "초)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("WebDriver 세션 대기 중 인터럽트", e);
+        } finally {
+            borrowWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        try {
+            PooledWebDriver session;
+            while ((session = idle.pollFirst()) != null) {
+                if (isHealthy(session)) {
+                    break;
+                }
+                destroy(session, "unhealthy");
+            }
+            if (session == null) {
+                session = create();
+            }
+            active.incrementAndGet();
+            return session;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 세션 반납
+     * @param invalidate true면 재사용하지 않고 폐기 (WebDriver 오류 발생 시)
+     */
+    public void release(PooledWebDriver session, boolean invalidate) {
+        if (session == null) {
+            return;
+        }
+        active.decrementAndGet();
+        try {
+            session.uses++;
+            if (closed) {
+                destroy(session, "shutdown");
+            } else if (invalidate) {
+                destroy(session, "broken");
+            } else if (session.uses >= maxUsesPerSession) {
+                destroy(session, "max_uses");
+            } else if (!reset(session)) {
+                destroy(session, "reset_failed");
+            } else {
+                session.lastReturnedAt = System.currentTimeMillis();
+                idle.offerFirst(session);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 오래 사용되지 않은 대기 세션 정리 (최소 대기 세션 수는 유지)
+     */
+    @Scheduled(fixedDelayString = "${webdriver.pool.eviction-interval-ms:60000}")
+    public void evictIdleSessions() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledWebDriver> it = idle.descendingIterator();
+        while (it.hasNext() && idle.size() > minIdle) {
+            PooledWebDriver session = it.next();
+            if (now - session.lastReturnedAt > maxIdleTime.toMillis() && idle.remove(session)) {
+                destroy(session, "idle_timeout");
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        List<PooledWebDriver> sessions = new ArrayList<>();
+        PooledWebDriver session;
+        while ((session = idle.pollFirst()) != null) {
+            sessions.add(session);
+        }
+        sessions.forEach(s -> destroy(s, "shutdown"));
+        log.info("WebDriver 풀 종료: 대기 세션 {}개 정리, 사용 중 {}개는 반납 시 종료", sessions.size(), active.get());
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private void fillToMinIdle() {
+        while (!closed && idle.size() < minIdle && total.get() < maxSize) {
+            if (!permits.tryAcquire()) {
+                return;
+            }
+            try {
+                PooledWebDriver session = create();
+                idle.offerLast(session);
+            } catch (Exception e) {
+                log.warn("WebDriver 세션 미리 생성 실패 (요청 시 생성): {}", e.getMessage());
+                return;
+            } finally {
+                permits.release();
+            }
+        }
+        log.info("WebDriver 풀 준비 완료: idle={}, max={}", idle.size(), maxSize);
+    }
+
+    private PooledWebDriver create() {
+        long start = System.currentTimeMillis();
+        WebDriver driver = webDriverFactory.getObject();
+        total.incrementAndGet();
+        createdCounter.increment();
+        log.info("WebDriver 세션 생성: {}ms (total={})", System.currentTimeMillis() - start, total.get());
+        return new PooledWebDriver(driver);
+    }
+
+    private boolean isHealthy(PooledWebDriver session) {
+        if (System.currentTimeMillis() - session.lastReturnedAt > maxIdleTime.toMillis()) {
+            return false;
+        }
+        try {
+            session.driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 다음 사용을 위한 상태 초기화: 추가 탭 닫기, 쿠키 삭제, 빈 페이지 이동
+     */
+    private boolean reset(PooledWebDriver session) {
+        WebDriver driver = session.driver;
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            String keep = handles.iterator().next();
+            for (String handle : handles) {
+                if (!handle.equals(keep)) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(keep);
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            log.debug("WebDriver 세션 초기화 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void destroy(PooledWebDriver session, String reason) {
+        total.decrementAndGet();
+        Counter.builder("webdriver.pool.recycled")
+                .description("폐기된 WebDriver 세션 수")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        try {
+            session.driver.quit();
+        } catch (Exception e) {
+            log.warn("WebDriver 종료 중 오류: {}", e.getMessage());
+        }
+        log.debug("WebDriver 세션 폐기: reason={}, uses={}, age={}s", reason, session.uses,
+                (System.currentTimeMillis() - session.createdAt) / 1000);
+    }
+}
@@ -0,0 +1,13 @@
+package com.topoom.external.blog.webdriver;
+
+/**
+ * WebDriver 세션 대기 시간 초과 예외
+ * - 풀의 세션이 모두 사용 중이라 정해진 시간 안에 빌리지 못했을 때 발생
+ * - 일시적 실패 (메시지 소비 중이면 지연 큐를 거쳐 재시도)
+ */
+public class WebDriverPoolExhaustedException extends RuntimeException {
+
+    public WebDriverPoolExhaustedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,59 @@
+package com.topoom.external.geocode.entity;
+
+import com.topoom.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 지오코딩 결과 영속 캐시
+ * 주소 → 좌표, 좌표 → 지번주소 결과를 정규화된 키 기준으로 저장한다.
+ * 결과 없음(found=false)도 저장하여 같은 요청의 반복 호출을 막는다.
+ */
+@Entity
+@Table(name = "geocode_cache",
+        uniqueConstraints = @UniqueConstraint(name = "ux_geocode_cache_key_hash", columnNames = "key_hash"),
+        indexes = {
+                @Index(name = "ix_geocode_cache_expires", columnList = "expires_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeocodeCache extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "lookup_type", length = 20, nullable = false)
+    private LookupType lookupType;
+
+    // 정규화된 주소 또는 소수점 6자리로 반올림한 "위도,경도"
+    @Column(name = "cache_key", columnDefinition = "TEXT", nullable = false)
+    private String cacheKey;
+
+    @Column(name = "key_hash", columnDefinition = "CHAR(64)", length = 64, nullable = false, unique = true)
+    private String keyHash;
+
+    @Column(nullable = false)
+    private Boolean found;
+
+    @Column(precision = 10, scale = 7)
+    private BigDecimal latitude;
+
+    @Column(precision = 10, scale = 7)
+    private BigDecimal longitude;
+
+    @Column(name = "parcel_address", length = 500)
+    private String parcelAddress;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public enum LookupType { ADDRESS_TO_COORD, COORD_TO_PARCEL }
+}
@@ -0,0 +1,13 @@
+package com.topoom.external.geocode.repository;
+
+import com.topoom.external.geocode.entity.GeocodeCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCache, Long> {
+
+    Optional<GeocodeCache> findByKeyHash(String keyHash);
+}
@@ -0,0 +1,215 @@
+package com.topoom.external.geocode.service;
+
+import com.topoom.common.HashUtils;
+import com.topoom.common.LruTtlCache;
+import com.topoom.external.geocode.entity.GeocodeCache;
+import com.topoom.external.geocode.entity.GeocodeCache.LookupType;
+import com.topoom.external.geocode.repository.GeocodeCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 지오코딩 2단계 캐시 (메모리 LRU/TTL → DB 영속 캐시 → Kakao API)
+ * - 주소는 공백을 정규화한 문자열, 좌표는 소수점 6자리 반올림 값을 키로 사용
+ * - "결과 없음" 응답도 짧은 TTL로 캐시 (네거티브 캐시)
+ * - API 호출 실패(예외)는 캐시하지 않음
+ */
+@Slf4j
+@Service
+public class GeocodeCacheService {
+
+    private static final int COORDINATE_SCALE = 6;
+
+    private final GeocodeCacheRepository geocodeCacheRepository;
+    private final TransactionTemplate writeTransactionTemplate;
+    private final LruTtlCache<String, CachedResult> memoryCache;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Duration memoryTtl;
+    private final MeterRegistry meterRegistry;
+
+    public GeocodeCacheService(GeocodeCacheRepository geocodeCacheRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${geocode.cache.memory-max-size:10000}") int memoryMaxSize,
+                               @Value("${geocode.cache.memory-ttl-minutes:360}") long memoryTtlMinutes,
+                               @Value("${geocode.cache.ttl-days:90}") long ttlDays,
+                               @Value("${geocode.cache.negative-ttl-hours:24}") long negativeTtlHours) {
+        this.geocodeCacheRepository = geocodeCacheRepository;
+        this.meterRegistry = meterRegistry;
+        this.memoryCache = new LruTtlCache<>(memoryMaxSize);
+        this.memoryTtl = Duration.ofMinutes(memoryTtlMinutes);
+        this.ttl = Duration.ofDays(ttlDays);
+        this.negativeTtl = Duration.ofHours(negativeTtlHours);
+
+        // 호출자 트랜잭션(읽기 전용 포함)과 무관하게 캐시를 기록하기 위해 별도 트랜잭션 사용
+        this.writeTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.writeTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("geocode.cache.memory.size", memoryCache, LruTtlCache::size)
+                .description("지오코딩 메모리 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 로더 (Kakao API 호출)
+     * 정상 응답의 "결과 없음"은 Optional.empty(), 호출 실패는 예외로 구분해야 한다.
+     */
+    @FunctionalInterface
+    public interface Loader<K, V> {
+        Optional<V> load(K key) throws Exception;
+    }
+
+    /**
+     * 주소 → 좌표 [위도, 경도]
+     */
+    public Optional<double[]> getCoordinates(String address, Loader<String, double[]> loader) throws Exception {
+        String normalized = normalizeAddress(address);
+        String memoryKey = LookupType.ADDRESS_TO_COORD + ":" + normalized;
+
+        Optional<CachedResult> cached = lookup(memoryKey, LookupType.ADDRESS_TO_COORD);
+        if (cached.isPresent()) {
+            return cached.get().toCoordinates();
+        }
+
+        Optional<double[]> loaded = loader.load(normalized);
+        CachedResult result = loaded
+                .map(c -> CachedResult.coordinates(BigDecimal.valueOf(c[0]), BigDecimal.valueOf(c[1])))
+                .orElse(CachedResult.NOT_FOUND);
+        store(memoryKey, LookupType.ADDRESS_TO_COORD, normalized, result);
+        return loaded;
+    }
+
+    /**
+     * 좌표 → 지번주소
+     * 좌표는 소수점 6자리로 반올림한 값으로 조회한다.
+     */
+    public Optional<String> getParcelAddress(BigDecimal latitude, BigDecimal longitude,
+                                             Loader<BigDecimal[], String> loader) throws Exception {
+        BigDecimal lat = latitude.setScale(COORDINATE_SCALE, RoundingMode.HALF_UP);
+        BigDecimal lng = longitude.setScale(COORDINATE_SCALE, RoundingMode.HALF_UP);
+        String key = lat.toPlainString() + "," + lng.toPlainString();
+        String memoryKey = LookupType.COORD_TO_PARCEL + ":" + key;
+
+        Optional<CachedResult> cached = lookup(memoryKey, LookupType.COORD_TO_PARCEL);
+        if (cached.isPresent()) {
+            return cached.get().toParcelAddress();
+        }
+
+        Optional<String> loaded = loader.load(new BigDecimal[]{lat, lng});
+        CachedResult result = loaded.map(CachedResult::parcelAddress).orElse(CachedResult.NOT_FOUND);
+        store(memoryKey, LookupType.COORD_TO_PARCEL, key, result);
+        return loaded;
+    }
+
+    private Optional<CachedResult> lookup(String memoryKey, LookupType type) {
+        Optional<CachedResult> memoryHit = memoryCache.get(memoryKey);
+        if (memoryHit.isPresent()) {
+            count(type, "memory_hit");
+            return memoryHit;
+        }
+
+        try {
+            Optional<GeocodeCache> dbHit = geocodeCacheRepository.findByKeyHash(HashUtils.sha256Hex(memoryKey))
+                    .filter(entry -> entry.getExpiresAt().isAfter(LocalDateTime.now()));
+            if (dbHit.isPresent()) {
+                GeocodeCache entry = dbHit.get();
+                CachedResult result = Boolean.TRUE.equals(entry.getFound())
+                        ? new CachedResult(true, entry.getLatitude(), entry.getLongitude(), entry.getParcelAddress())
+                        : CachedResult.NOT_FOUND;
+                long remainingMillis = Duration.between(LocalDateTime.now(), entry.getExpiresAt()).toMillis();
+                memoryCache.put(memoryKey, result, Math.min(remainingMillis, memoryTtl.toMillis()));
+                count(type, "db_hit");
+                return Optional.of(result);
+            }
+        } catch (Exception e) {
+            log.warn("지오코딩 DB 캐시 조회 실패 [{}]: {}", memoryKey, e.getMessage());
+        }
+
+        count(type, "miss");
+        return Optional.empty();
+    }
+
+    private void store(String memoryKey, LookupType type, String cacheKey, CachedResult result) {
+        Duration entryTtl = result.found() ? ttl : negativeTtl;
+        memoryCache.put(memoryKey, result, Math.min(entryTtl.toMillis(), memoryTtl.toMillis()));
+
+        String keyHash = HashUtils.sha256Hex(memoryKey);
+        LocalDateTime expiresAt = LocalDateTime.now().plus(entryTtl);
+        try {
+            writeTransactionTemplate.executeWithoutResult(status -> {
+                GeocodeCache entry = geocodeCacheRepository.findByKeyHash(keyHash)
+                        .orElseGet(() -> GeocodeCache.builder()
+                                .lookupType(type)
+                                .cacheKey(cacheKey)
+                                .keyHash(keyHash)
+                                .build());
+                entry.setFound(result.found());
+                entry.setLatitude(result.latitude());
+                entry.setLongitude(result.longitude());
+                entry.setParcelAddress(result.parcelAddress());
+                entry.setExpiresAt(expiresAt);
+                geocodeCacheRepository.save(entry);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 스레드가 동시에 같은 키를 저장한 경우 - 메모리 캐시만으로 충분
+            log.debug("지오코딩 캐시 동시 저장 무시 [{}]", cacheKey);
+        } catch (Exception e) {
+            log.warn("지오코딩 DB 캐시 저장 실패 [{}]: {}", cacheKey, e.getMessage());
+        }
+    }
+
+    private void count(LookupType type, String result) {
+        Counter.builder("geocode.cache.requests")
+                .description("지오코딩 캐시 조회 결과")
+                .tag("type", type.name().toLowerCase())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 주소 정규화: 앞뒤 공백 제거, 연속 공백을 하나로
+     */
+    static String normalizeAddress(String address) {
+        return address.trim().replaceAll("\\s+", " ");
+    }
+
+    private record CachedResult(boolean found, BigDecimal latitude, BigDecimal longitude, String parcelAddress) {
+
+        static final CachedResult NOT_FOUND = new CachedResult(false, null, null, null);
+
+        static CachedResult coordinates(BigDecimal latitude, BigDecimal longitude) {
+            return new CachedResult(true, latitude, longitude, null);
+        }
+
+        static CachedResult parcelAddress(String parcelAddress) {
+            return new CachedResult(true, null, null, parcelAddress);
+        }
+
+        Optional<double[]> toCoordinates() {
+            if (!found || latitude == null || longitude == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new double[]{latitude.doubleValue(), longitude.doubleValue()});
+        }
+
+        Optional<String> toParcelAddress() {
+            return found ? Optional.ofNullable(parcelAddress) : Optional.empty();
+        }
+    }
+}
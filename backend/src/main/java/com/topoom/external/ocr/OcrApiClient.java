@@ -0,0 +1,54 @@
+package com.topoom.external.ocr;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * OCR 서버 클라이언트 (S3 이미지 → 추출 텍스트)
+ */
+@Slf4j
+@Component
+public class OcrApiClient {
+
+    private final WebClient ocrWebClient;
+
+    public OcrApiClient(@Qualifier("ocrWebClient") WebClient ocrWebClient) {
+        this.ocrWebClient = ocrWebClient;
+    }
+
+    /**
+     * OCR API 호출 (S3 키가 없으면 빈 문자열)
+     */
+    public Mono<String> extractText(String s3Key) {
+        if (s3Key == null || s3Key.trim().isEmpty()) {
+            log.warn("S3 키가 없음, OCR 스킵");
+            return Mono.just("");
+        }
+
+        Map<String, String> request = Map.of("s3Key", s3Key);
+
+        return ocrWebClient.post()
+            .uri("/s3-direct")
+            .bodyValue(request)
+            .retrieve()
+            .bodyToMono(Map.class)
+            .map(response -> {
+                Boolean success = (Boolean) response.get("success");
+                if (Boolean.TRUE.equals(success)) {
+                    return (String) response.get("extractedText");
+                } else {
+                    throw new RuntimeException("OCR API 호출 실패: " + response.get("error"));
+                }
+            })
+            .timeout(Duration.ofSeconds(30))
+            .doOnSuccess(result -> log.info("OCR API 호출 성공: s3Key={}, 결과 길이={}",
+                s3Key, result != null ? result.length() : 0))
+            .doOnError(error -> log.error("OCR API 호출 실패: s3Key={}", s3Key, error));
+    }
+}
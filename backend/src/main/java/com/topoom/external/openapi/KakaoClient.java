@@ -1,6 +1,7 @@
 package com.topoom.external.openapi;
 
-import lombok.RequiredArgsConstructor;
+import com.topoom.common.RateLimiter;
+import com.topoom.external.geocode.service.GeocodeCacheService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
@@ -14,50 +15,34 @@ import java.util.Optional;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class KakaoClient {
 
     private final WebClient webClient;
+    private final GeocodeCacheService geocodeCacheService;
+    // 캐시 미스로 실제 API를 호출할 때만 적용 (동시 호출 시 Kakao 쿼터 보호)
+    private final RateLimiter rateLimiter;
 
     @Value("${kakao.api.key}")
     private String kakaoApiKey;
 
+    public KakaoClient(WebClient webClient,
+                       GeocodeCacheService geocodeCacheService,
+                       @Value("${kakao.api.rate-limit-per-second:10}") double rateLimitPerSecond) {
+        this.webClient = webClient;
+        this.geocodeCacheService = geocodeCacheService;
+        this.rateLimiter = new RateLimiter(rateLimitPerSecond);
+    }
+
+    /**
+     * 주소를 좌표 [위도, 경도]로 변환 (지오코딩 캐시 경유)
+     */
     public Optional<double[]> getCoordinates(String address) {
         if (address == null || address.isBlank()) {
             return Optional.empty();
         }
 
         try {
-            Map<String, Object> response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("dapi.kakao.com")
-                            .path("/v2/local/search/address.json")
-                            .queryParam("query", address)
-                            .build())
-                    .header("Authorization", "KakaoAK " + kakaoApiKey)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .block();
-
-            if (response == null || !response.containsKey("documents")) {
-                return Optional.empty();
-            }
-
-            List<Map<String, Object>> documents = (List<Map<String, Object>>) response.get("documents");
-            if (documents.isEmpty()) {
-                log.info("📭 [KakaoClient] 좌표 결과 없음 (address={}), {}", address, response);
-                return Optional.empty();
-            }
-
-
-            Map<String, Object> first = documents.get(0);
-            double latitude = Double.parseDouble((String) first.get("y"));
-            double longitude = Double.parseDouble((String) first.get("x"));
-
-            log.debug("Kakao API 응답 [{}]: {}", address, documents);
-            return Optional.of(new double[]{latitude, longitude});
-
+            return geocodeCacheService.getCoordinates(address, this::requestCoordinates);
         } catch (Exception e) {
             log.warn("Kakao 주소 변환 실패 [{}]: {}", address, e.getMessage());
             return Optional.empty();
@@ -65,7 +50,7 @@ public class KakaoClient {
     }
 
     /**
-     * 위도/경도를 지번주소로 변환 (역지오코딩)
+     * 위도/경도를 지번주소로 변환 (역지오코딩, 지오코딩 캐시 경유)
      * Kakao API - coord2address 사용
      */
     public Optional<String> getParcelAddress(BigDecimal latitude, BigDecimal longitude) {
@@ -74,48 +59,93 @@ public class KakaoClient {
         }
 
         try {
-            Map<String, Object> response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("dapi.kakao.com")
-                            .path("/v2/local/geo/coord2address.json")
-                            .queryParam("x", longitude.toString()) // 경도 (x)
-                            .queryParam("y", latitude.toString())  // 위도 (y)
-                            .build())
-                    .header("Authorization", "KakaoAK " + kakaoApiKey)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .block();
-
-            if (response == null || !response.containsKey("documents")) {
-                return Optional.empty();
-            }
-
-            List<Map<String, Object>> documents = (List<Map<String, Object>>) response.get("documents");
-            if (documents.isEmpty()) {
-                log.info("📭 [KakaoClient] 지번주소 결과 없음 (lat={}, lng={})", latitude, longitude);
-                return Optional.empty();
-            }
+            return geocodeCacheService.getParcelAddress(latitude, longitude,
+                    coord -> requestParcelAddress(coord[0], coord[1]));
+        } catch (Exception e) {
+            log.warn("Kakao 역지오코딩 실패 [lat={}, lng={}]: {}", latitude, longitude, e.getMessage());
+            return Optional.empty();
+        }
+    }
 
-            Map<String, Object> first = documents.get(0);
-            
-            // address 객체에서 지번주소 추출
-            if (first.containsKey("address")) {
-                Map<String, Object> address = (Map<String, Object>) first.get("address");
-                String addressName = (String) address.get("address_name");
-                
-                if (addressName != null && !addressName.isBlank()) {
-                    log.debug("Kakao 역지오코딩 성공 [lat={}, lng={}]: {}", latitude, longitude, addressName);
-                    return Optional.of(addressName);
-                }
-            }
+    /**
+     * Kakao 주소 검색 API 호출
+     * 결과 없음은 Optional.empty(), HTTP/네트워크 오류는 예외를 그대로 던진다.
+     */
+    private Optional<double[]> requestCoordinates(String address) throws InterruptedException {
+        rateLimiter.acquire();
+        Map<String, Object> response = webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .scheme("https")
+                        .host("dapi.kakao.com")
+                        .path("/v2/local/search/address.json")
+                        .queryParam("query", address)
+                        .build())
+                .header("Authorization", "KakaoAK " + kakaoApiKey)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .block();
+
+        if (response == null || !response.containsKey("documents")) {
+            throw new IllegalStateException("Kakao 주소 검색 응답 형식 오류");
+        }
 
-            log.info("📭 [KakaoClient] 지번주소 파싱 실패 (lat={}, lng={}), response: {}", latitude, longitude, first);
+        List<Map<String, Object>> documents = (List<Map<String, Object>>) response.get("documents");
+        if (documents.isEmpty()) {
+            log.info("📭 [KakaoClient] 좌표 결과 없음 (address={}), {}", address, response);
             return Optional.empty();
+        }
 
-        } catch (Exception e) {
-            log.warn("Kakao 역지오코딩 실패 [lat={}, lng={}]: {}", latitude, longitude, e.getMessage());
+        Map<String, Object> first = documents.get(0);
+        double latitude = Double.parseDouble((String) first.get("y"));
+        double longitude = Double.parseDouble((String) first.get("x"));
+
+        log.debug("Kakao API 응답 [{}]: {}", address, documents);
+        return Optional.of(new double[]{latitude, longitude});
+    }
+
+    /**
+     * Kakao coord2address API 호출
+     * 결과 없음은 Optional.empty(), HTTP/네트워크 오류는 예외를 그대로 던진다.
+     */
+    private Optional<String> requestParcelAddress(BigDecimal latitude, BigDecimal longitude) throws InterruptedException {
+        rateLimiter.acquire();
+        Map<String, Object> response = webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .scheme("https")
+                        .host("dapi.kakao.com")
+                        .path("/v2/local/geo/coord2address.json")
+                        .queryParam("x", longitude.toString()) // 경도 (x)
+                        .queryParam("y", latitude.toString())  // 위도 (y)
+                        .build())
+                .header("Authorization", "KakaoAK " + kakaoApiKey)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .block();
+
+        if (response == null || !response.containsKey("documents")) {
+            throw new IllegalStateException("Kakao 역지오코딩 응답 형식 오류");
+        }
+
+        List<Map<String, Object>> documents = (List<Map<String, Object>>) response.get("documents");
+        if (documents.isEmpty()) {
+            log.info("📭 [KakaoClient] 지번주소 결과 없음 (lat={}, lng={})", latitude, longitude);
             return Optional.empty();
         }
+
+        Map<String, Object> first = documents.get(0);
+
+        // address 객체에서 지번주소 추출
+        if (first.containsKey("address")) {
+            Map<String, Object> address = (Map<String, Object>) first.get("address");
+            String addressName = (String) address.get("address_name");
+
+            if (addressName != null && !addressName.isBlank()) {
+                log.debug("Kakao 역지오코딩 성공 [lat={}, lng={}]: {}", latitude, longitude, addressName);
+                return Optional.of(addressName);
+            }
+        }
+
+        log.info("📭 [KakaoClient] 지번주소 파싱 실패 (lat={}, lng={}), response: {}", latitude, longitude, first);
+        return Optional.empty();
     }
 }
@@ -0,0 +1,38 @@
+package com.topoom.maintenance.controller;
+
+import com.topoom.common.ApiResponse;
+import com.topoom.maintenance.dto.MaintenanceJobStatus;
+import com.topoom.maintenance.service.MaintenanceJobRunner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/maintenance")
+@RequiredArgsConstructor
+public class MaintenanceController {
+
+    private final MaintenanceJobRunner maintenanceJobRunner;
+
+    /**
+     * 유지보수 작업 시작 (백그라운드 실행, 진행 상황은 GET으로 확인)
+     * restart=true면 체크포인트를 무시하고 처음부터 실행
+     */
+    @PostMapping("/jobs/{name}")
+    public ResponseEntity<ApiResponse<MaintenanceJobStatus>> startJob(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "false") boolean restart) {
+        if (!maintenanceJobRunner.start(name, restart)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error("이미 실행 중인 작업입니다: " + name));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("작업이 시작되었습니다.", maintenanceJobRunner.getStatus(name)));
+    }
+
+    @GetMapping("/jobs/{name}")
+    public ResponseEntity<ApiResponse<MaintenanceJobStatus>> getJobStatus(@PathVariable String name) {
+        return ResponseEntity.ok(ApiResponse.success(maintenanceJobRunner.getStatus(name)));
+    }
+}
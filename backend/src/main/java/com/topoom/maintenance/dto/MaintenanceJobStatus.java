@@ -0,0 +1,21 @@
+package com.topoom.maintenance.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaintenanceJobStatus {
+    private String jobName;
+    private boolean running;
+    private String status;          // RUNNING / COMPLETED / FAILED (실행 이력이 없으면 null)
+    private Long lastId;
+    private Long targetMaxId;
+    private Long processedRows;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String lastError;
+}
@@ -0,0 +1,55 @@
+package com.topoom.maintenance.entity;
+
+import com.topoom.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 유지보수 작업 진행 상황
+ * 청크 UPDATE와 같은 트랜잭션에서 갱신되므로, 중단된 작업은 lastId 다음 구간부터 이어서 실행된다.
+ */
+@Entity
+@Table(name = "maintenance_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaintenanceCheckpoint extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    // 처리 완료된 마지막 id (이 값 이하 구간은 처리됨)
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+
+    // 실행 시작 시점의 최대 id (이후 추가된 행은 대상이 아님)
+    @Column(name = "target_max_id", nullable = false)
+    private Long targetMaxId;
+
+    @Column(name = "processed_rows", nullable = false)
+    private Long processedRows;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,29 @@
+package com.topoom.maintenance.job;
+
+/**
+ * id 구간 단위로 나눠 실행하는 일괄 UPDATE 작업
+ * MaintenanceJobRunner가 (lastId, lastId + chunkSize] 구간마다 updateRange를 한 트랜잭션으로 호출하고
+ * 같은 트랜잭션에서 체크포인트를 갱신한다. updateRange는 같은 구간을 다시 실행해도 결과가 같아야 한다.
+ */
+public interface ChunkedUpdateJob {
+
+    /**
+     * 작업 이름 (체크포인트 키, API 경로에 사용)
+     */
+    String name();
+
+    /**
+     * 대상 테이블의 현재 최대 id (행이 없으면 0)
+     */
+    long maxId();
+
+    /**
+     * fromId 이상 toId 이하 구간 UPDATE
+     * @return 변경된 행 수
+     */
+    int updateRange(long fromId, long toId);
+
+    default int chunkSize() {
+        return 1000;
+    }
+}
@@ -0,0 +1,47 @@
+package com.topoom.maintenance.job;
+
+import com.topoom.missingcase.event.MissingCaseChangedEvent;
+import com.topoom.missingcase.repository.MissingCaseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 초기 데이터용: missing_case.crawled_at을 occurred_at으로 일괄 맞춤
+ * 일괄 UPDATE는 엔티티를 거치지 않으므로, 구간마다 바뀐 사건 id로 MissingCaseChangedEvent를 발행해
+ * 목록 읽기 모델과 상세 캐시가 구간 커밋 후 해당 사건만 다시 읽게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CrawledAtBackfillJob implements ChunkedUpdateJob {
+
+    public static final String NAME = "crawled-at-backfill";
+
+    private final MissingCaseRepository missingCaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public long maxId() {
+        Long maxId = missingCaseRepository.findMaxId();
+        return maxId != null ? maxId : 0L;
+    }
+
+    @Override
+    public int updateRange(long fromId, long toId) {
+        List<Long> ids = missingCaseRepository.findIdsWithStaleCrawledAtBetween(fromId, toId);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int updated = missingCaseRepository.updateCrawledAtToOccurredAtIn(ids);
+        eventPublisher.publishEvent(new MissingCaseChangedEvent(Set.copyOf(ids)));
+        return updated;
+    }
+}
@@ -0,0 +1,9 @@
+package com.topoom.maintenance.repository;
+
+import com.topoom.maintenance.entity.MaintenanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MaintenanceCheckpointRepository extends JpaRepository<MaintenanceCheckpoint, String> {
+}
@@ -0,0 +1,193 @@
+package com.topoom.maintenance.service;
+
+import com.topoom.maintenance.dto.MaintenanceJobStatus;
+import com.topoom.maintenance.entity.MaintenanceCheckpoint;
+import com.topoom.maintenance.job.ChunkedUpdateJob;
+import com.topoom.maintenance.repository.MaintenanceCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 유지보수 작업 실행기
+ * - id 구간 청크마다 짧은 트랜잭션으로 UPDATE + 체크포인트 갱신 (긴 테이블 락 없음, 메모리 일정)
+ * - 청크 사이에 chunk-pause-ms 만큼 쉬어 운영 쿼리에 여유를 준다
+ * - 중단/실패한 작업은 체크포인트 다음 구간부터 재개, 완료된 작업을 다시 실행하면 처음부터 실행
+ * - 작업은 전용 스레드에서 실행되며 같은 작업은 동시에 하나만 실행된다
+ */
+@Slf4j
+@Service
+public class MaintenanceJobRunner {
+
+    private final Map<String, ChunkedUpdateJob> jobs;
+    private final MaintenanceCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long chunkPauseMs;
+    private final ExecutorService executor;
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    public MaintenanceJobRunner(List<ChunkedUpdateJob> jobs,
+                                MaintenanceCheckpointRepository checkpointRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${maintenance.chunk-pause-ms:50}") long chunkPauseMs) {
+        this.jobs = jobs.stream().collect(Collectors.toMap(ChunkedUpdateJob::name, Function.identity()));
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkPauseMs = Math.max(0, chunkPauseMs);
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "maintenance-job");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 작업을 백그라운드로 시작
+     * @param restart true면 체크포인트를 무시하고 처음부터 실행
+     * @return 이미 실행 중이면 false
+     */
+    public boolean start(String jobName, boolean restart) {
+        ChunkedUpdateJob job = getJob(jobName);
+        if (!running.add(jobName)) {
+            return false;
+        }
+        try {
+            executor.submit(() -> {
+                try {
+                    run(job, restart);
+                } finally {
+                    running.remove(jobName);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.remove(jobName);
+            throw e;
+        }
+        return true;
+    }
+
+    public MaintenanceJobStatus getStatus(String jobName) {
+        getJob(jobName);
+        MaintenanceJobStatus.MaintenanceJobStatusBuilder status = MaintenanceJobStatus.builder()
+                .jobName(jobName)
+                .running(running.contains(jobName));
+        checkpointRepository.findById(jobName).ifPresent(cp -> status
+                .status(cp.getStatus().name())
+                .lastId(cp.getLastId())
+                .targetMaxId(cp.getTargetMaxId())
+                .processedRows(cp.getProcessedRows())
+                .startedAt(cp.getStartedAt())
+                .finishedAt(cp.getFinishedAt())
+                .lastError(cp.getLastError()));
+        return status.build();
+    }
+
+    private ChunkedUpdateJob getJob(String jobName) {
+        ChunkedUpdateJob job = jobs.get(jobName);
+        if (job == null) {
+            throw new IllegalArgumentException("존재하지 않는 유지보수 작업입니다: " + jobName);
+        }
+        return job;
+    }
+
+    private void run(ChunkedUpdateJob job, boolean restart) {
+        String name = job.name();
+        long start = System.currentTimeMillis();
+        try {
+            MaintenanceCheckpoint checkpoint = transactionTemplate.execute(status -> prepare(job, restart));
+            log.info("🛠️ 유지보수 작업 시작: {} (lastId={}, targetMaxId={})",
+                    name, checkpoint.getLastId(), checkpoint.getTargetMaxId());
+
+            long lastId = checkpoint.getLastId();
+            long targetMaxId = checkpoint.getTargetMaxId();
+            int chunkSize = Math.max(1, job.chunkSize());
+            int chunks = 0;
+            while (lastId < targetMaxId) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.warn("⏸️ 유지보수 작업 중단: {} (lastId={}) - 다음 실행 때 이어서 진행", name, lastId);
+                    return;
+                }
+                long fromId = lastId + 1;
+                long toId = Math.min(targetMaxId, lastId + chunkSize);
+                transactionTemplate.executeWithoutResult(status -> {
+                    int updated = job.updateRange(fromId, toId);
+                    MaintenanceCheckpoint cp = checkpointRepository.findById(name).orElseThrow();
+                    cp.setLastId(toId);
+                    cp.setProcessedRows(cp.getProcessedRows() + updated);
+                });
+                lastId = toId;
+                if (++chunks % 100 == 0) {
+                    log.info("유지보수 작업 진행: {} {}/{}", name, lastId, targetMaxId);
+                }
+                if (chunkPauseMs > 0) {
+                    Thread.sleep(chunkPauseMs);
+                }
+            }
+
+            MaintenanceCheckpoint done = transactionTemplate.execute(status -> {
+                MaintenanceCheckpoint cp = checkpointRepository.findById(name).orElseThrow();
+                cp.setStatus(MaintenanceCheckpoint.Status.COMPLETED);
+                cp.setFinishedAt(LocalDateTime.now());
+                return cp;
+            });
+            log.info("✅ 유지보수 작업 완료: {} - 변경 {}건, {}ms",
+                    name, done.getProcessedRows(), System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("⏸️ 유지보수 작업 중단: {} - 다음 실행 때 이어서 진행", name);
+        } catch (Exception e) {
+            log.error("❌ 유지보수 작업 실패: {}", name, e);
+            markFailed(name, e);
+        }
+    }
+
+    /**
+     * 체크포인트 준비: 이력이 없거나, 재시작 요청이거나, 이미 완료된 작업이면 처음부터
+     */
+    private MaintenanceCheckpoint prepare(ChunkedUpdateJob job, boolean restart) {
+        MaintenanceCheckpoint checkpoint = checkpointRepository.findById(job.name()).orElse(null);
+        if (checkpoint == null || restart || checkpoint.getStatus() == MaintenanceCheckpoint.Status.COMPLETED) {
+            checkpoint = MaintenanceCheckpoint.builder()
+                    .jobName(job.name())
+                    .lastId(0L)
+                    .targetMaxId(job.maxId())
+                    .processedRows(0L)
+                    .startedAt(LocalDateTime.now())
+                    .build();
+        }
+        checkpoint.setStatus(MaintenanceCheckpoint.Status.RUNNING);
+        checkpoint.setFinishedAt(null);
+        checkpoint.setLastError(null);
+        return checkpointRepository.save(checkpoint);
+    }
+
+    private void markFailed(String name, Exception e) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> checkpointRepository.findById(name).ifPresent(cp -> {
+                cp.setStatus(MaintenanceCheckpoint.Status.FAILED);
+                String message = String.valueOf(e.getMessage());
+                cp.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+            }));
+        } catch (Exception markError) {
+            log.error("유지보수 작업 실패 상태 기록 실패: {}", name, markError);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,62 @@
+package com.topoom.messaging.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.Locale;
+
+/**
+ * 메시지 코덱용 ObjectMapper (JSON/Smile 공통 설정, 한 번만 생성해 공유)
+ */
+public final class MessageCodecs {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
+
+    private static final ObjectMapper SMILE_MAPPER = new SmileMapper()
+            .registerModule(new JavaTimeModule());
+
+    private MessageCodecs() {
+    }
+
+    public static ObjectMapper jsonMapper() {
+        return JSON_MAPPER;
+    }
+
+    public static ObjectMapper smileMapper() {
+        return SMILE_MAPPER;
+    }
+
+    /**
+     * content-type에 맞는 ObjectMapper (Smile이 아니면 JSON)
+     */
+    public static ObjectMapper mapperFor(String contentType) {
+        return SmileMessageConverter.CONTENT_TYPE.equals(contentType) ? SMILE_MAPPER : JSON_MAPPER;
+    }
+
+    /**
+     * 발행은 codec(json|smile)으로, 소비는 메시지의 content-type으로 코덱을 고르는 컨버터
+     * - 코덱 전환 중에도 기존 JSON 메시지를 그대로 소비 가능
+     * - 그 밖의 codec 값은 조용히 JSON으로 떨어지지 않도록 바로 실패 (애플리케이션 기동 중단)
+     */
+    public static MessageConverter messageConverter(String codec) {
+        MessageConverter json = new Jackson2JsonMessageConverter(JSON_MAPPER);
+        MessageConverter smile = new SmileMessageConverter(SMILE_MAPPER);
+        MessageConverter publishWith = switch (codec == null ? "" : codec.trim().toLowerCase(Locale.ROOT)) {
+            case "json" -> json;
+            case "smile" -> smile;
+            default -> throw new IllegalArgumentException(
+                    "지원하지 않는 messaging.codec 값: " + codec + " (json 또는 smile만 가능)");
+        };
+
+        ContentTypeDelegatingMessageConverter converter = new ContentTypeDelegatingMessageConverter(publishWith);
+        converter.addDelegate(MessageProperties.CONTENT_TYPE_JSON, json);
+        converter.addDelegate(SmileMessageConverter.CONTENT_TYPE, smile);
+        return converter;
+    }
+}
@@ -0,0 +1,66 @@
+package com.topoom.messaging.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractMessageConverter;
+import org.springframework.amqp.support.converter.DefaultJackson2JavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Smile(바이너리 JSON) 메시지 컨버터
+ * - 필드 구조는 JSON 메시지와 같고 본문만 바이너리로 인코딩 (content-type: application/x-jackson-smile)
+ * - 타입 정보는 JSON 컨버터와 같은 __TypeId__ 헤더를 사용
+ * - x-codec-version 헤더가 지원 버전보다 높으면 변환 실패 (구버전 Consumer가 잘못 읽지 않도록)
+ */
+public class SmileMessageConverter extends AbstractMessageConverter {
+
+    public static final String CONTENT_TYPE = "application/x-jackson-smile";
+    public static final String CODEC_VERSION_HEADER = "x-codec-version";
+    public static final int CODEC_VERSION = 1;
+
+    private final ObjectMapper smileMapper;
+    private final DefaultJackson2JavaTypeMapper typeMapper = new DefaultJackson2JavaTypeMapper();
+
+    public SmileMessageConverter(ObjectMapper smileMapper) {
+        this.smileMapper = smileMapper;
+        this.typeMapper.setTrustedPackages("com.topoom.messaging.dto");
+    }
+
+    @Override
+    protected Message createMessage(Object object, MessageProperties messageProperties) {
+        try {
+            byte[] body = smileMapper.writeValueAsBytes(object);
+            messageProperties.setContentType(CONTENT_TYPE);
+            messageProperties.setContentLength(body.length);
+            messageProperties.setHeader(CODEC_VERSION_HEADER, CODEC_VERSION);
+            typeMapper.fromJavaType(smileMapper.constructType(object.getClass()), messageProperties);
+            return new Message(body, messageProperties);
+        } catch (IOException e) {
+            throw new MessageConversionException("Smile 인코딩 실패: " + object.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        MessageProperties props = message.getMessageProperties();
+        Object version = props.getHeader(CODEC_VERSION_HEADER);
+        if (version instanceof Number number && number.intValue() > CODEC_VERSION) {
+            throw new MessageConversionException("지원하지 않는 Smile 코덱 버전: " + version);
+        }
+
+        Type inferred = props.getInferredArgumentType();
+        JavaType targetType = inferred != null && inferred != Object.class
+                ? smileMapper.constructType(inferred)
+                : typeMapper.toJavaType(props);
+        try {
+            return smileMapper.readValue(message.getBody(), targetType);
+        } catch (IOException e) {
+            throw new MessageConversionException("Smile 디코딩 실패: " + targetType, e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.topoom.messaging.consumer;
+
+import com.topoom.config.RabbitMQConfig;
+import com.topoom.external.ocr.OcrApiClient;
+import com.topoom.messaging.dto.FinalizeMessage;
+import com.topoom.messaging.dto.OcrRequestMessage;
+import com.topoom.messaging.exception.OcrResultInvalidException;
+import com.topoom.messaging.producer.MessageProducer;
+import com.topoom.messaging.retry.DelayedRetryAdvice;
+import com.topoom.missingcase.service.CaseOcrService;
+import com.topoom.missingcase.service.MissingCaseUpdateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+
+/**
+ * 비동기 OCR 처리 Consumer (ocr.consumer.mode=async)
+ * - OCR API 응답을 리스너 스레드에서 기다리지 않고 Mono로 반환
+ * - 동시에 처리 중인 메시지 수는 prefetch(ocr.consumer.max-in-flight)로 제한
+ * - MissingCase 저장과 finalize-queue 발행이 끝난 뒤 ack
+ * - 실패 시 DelayedRetryAdvice로 지연 큐(재시도 소진 시 예외 헤더와 함께 DLX)에 재발행한 뒤 ack
+ * - DB 트랜잭션은 OCR 응답 이후 저장 구간에만 열림 (updateOcrDataOnly)
+ */
+@Component
+@ConditionalOnProperty(name = "ocr.consumer.mode", havingValue = "async")
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncOcrConsumer {
+
+    private final CaseOcrService caseOcrService;
+    private final MessageProducer messageProducer;
+    private final MissingCaseUpdateService missingCaseUpdateService;
+    private final OcrApiClient ocrApiClient;
+    private final DelayedRetryAdvice delayedRetryAdvice;
+
+    @RabbitListener(queues = RabbitMQConfig.OCR_REQUEST_QUEUE,
+            containerFactory = "asyncOcrListenerContainerFactory")
+    public Mono<Void> consumeOcrRequest(OcrRequestMessage message, Message rawMessage) {
+        int retryCount = DelayedRetryAdvice.retryCount(rawMessage.getMessageProperties());
+        log.info("OCR 처리 시작 (재시도 {}회): requestId={}, caseId={}, s3Key={}",
+            retryCount, message.getRequestId(), message.getCaseId(), message.getLastImageS3Key());
+
+        return Mono.fromCallable(() -> caseOcrService.resolveLastImageS3Key(
+                    message.getCaseId(), message.getLastImageS3Key()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .defaultIfEmpty("")
+                .flatMap(ocrApiClient::extractText)
+                .publishOn(Schedulers.boundedElastic())
+                .map(ocrResult -> validate(message, ocrResult, retryCount))
+                .doOnNext(validated -> {
+                    // OCR 데이터를 MissingCase에 저장한 뒤 finalize-queue로 발행
+                    missingCaseUpdateService.updateOcrDataOnly(message.getCaseId(), validated.parsedData());
+                    messageProducer.sendToFinalizeQueue(
+                        FinalizeMessage.fromOcr(message, validated.ocrResult(), validated.parsedData()));
+                    log.info("✅ OCR 처리 완료, DB 저장 완료, finalize-queue로 발행: requestId={}, caseId={}",
+                        message.getRequestId(), message.getCaseId());
+                })
+                .then()
+                // OCR 호출/검증/저장/발행 중 어디서 실패해도 blocking 모드와 같은 지연 큐 재시도 경로로 넘긴 뒤 ack
+                // (재발행 확인이 실패하면 에러로 끝나 nack → DLX)
+                .onErrorResume(e -> Mono.<Void>fromRunnable(() -> delayedRetryAdvice.reschedule(rawMessage, e))
+                    .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    private ValidatedOcr validate(OcrRequestMessage message, String ocrResult, int attempt) {
+        Map<String, Object> parsedData = caseOcrService.processAndValidateOcr(ocrResult);
+        if (parsedData == null) {
+            throw new OcrResultInvalidException(
+                String.format("OCR 필수값 검증 실패 (시도 %d회): personName, currentAge, gender 중 일부 누락",
+                    attempt));
+        }
+        return new ValidatedOcr(ocrResult, parsedData);
+    }
+
+    private record ValidatedOcr(String ocrResult, Map<String, Object> parsedData) {
+    }
+}
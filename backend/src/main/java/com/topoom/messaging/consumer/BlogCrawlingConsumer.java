@@ -6,12 +6,14 @@ import com.topoom.external.blog.service.IntegratedBlogCrawlingService;
 import com.topoom.messaging.dto.BlogCrawlingMessage;
 import com.topoom.messaging.dto.OcrRequestMessage;
 import com.topoom.messaging.producer.MessageProducer;
+import com.topoom.messaging.retry.DelayedRetryAdvice;
 import com.topoom.missingcase.entity.CaseContact;
 import com.topoom.missingcase.entity.CaseFile;
 import com.topoom.missingcase.repository.CaseFileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,9 +39,8 @@ public class BlogCrawlingConsumer {
 
     @RabbitListener(queues = RabbitMQConfig.CRAWLING_QUEUE, concurrency = "5-10")
     @Transactional
-    public void consumeBlogCrawling(BlogCrawlingMessage message) {
-        int retryCount = RabbitMQConfig.RetryContextHolder.getRetryCount();
-
+    public void consumeBlogCrawling(BlogCrawlingMessage message,
+                                    @Header(name = DelayedRetryAdvice.RETRY_COUNT_HEADER, defaultValue = "0") int retryCount) {
         log.info("블로그 크롤링 시작 (재시도 {}회): requestId={}, postUrl={}",
             retryCount, message.getRequestId(), message.getPostUrl());
 
@@ -101,7 +102,7 @@ public class BlogCrawlingConsumer {
         } catch (Exception e) {
             log.error("❌ 블로그 크롤링 실패 (시도 {}회 실패): requestId={}",
                 retryCount, message.getRequestId(), e);
-            throw e; // Retry 및 DLQ 처리
+            throw e; // 지연 큐 재시도 및 DLQ 처리
         }
     }
 }
@@ -0,0 +1,260 @@
+package com.topoom.messaging.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.topoom.config.RabbitMQConfig;
+import com.topoom.messaging.codec.MessageCodecs;
+import com.topoom.messaging.retry.ConfirmedPublisher;
+import com.topoom.messaging.retry.DeadLetterFailure;
+import com.topoom.messaging.retry.DelayedRetryAdvice;
+import com.topoom.missingcase.entity.ManualManagingMissingCase;
+import com.topoom.missingcase.service.ManualManagingMissingCaseService;
+import com.rabbitmq.client.Channel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DLQ 재처리 Consumer (배치 리스너)
+ * - dead-letter-queue를 prefetch로 계속 소비하며 배치 단위로 처리
+ * - 예외 헤더와 원래 큐로 실패를 분류하고 분류별 재시도 한도 적용 (DeadLetterFailure)
+ * - 재시도 대상은 원래 큐의 지연 큐로 재발행 (수 초 뒤 복귀)
+ * - 영구 실패는 배치마다 manual_managing_missing_case에 한 번에 저장 (실패 시 건별 저장 → 지연 재처리 → parking 큐)
+ * - 메시지마다 저장/재발행이 확인된 뒤 개별 ack (한 건의 실패가 배치 전체를 되돌리지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterConsumer {
+
+    // DLQ 재시도 횟수를 저장하는 헤더 키
+    private static final String DLQ_RETRY_COUNT_HEADER = "x-dlq-retry-count";
+
+    // 영구 실패 저장 시도 횟수 헤더 키
+    private static final String SAVE_ATTEMPTS_HEADER = "x-dlq-save-attempts";
+
+    private final ConfirmedPublisher confirmedPublisher;
+    private final ManualManagingMissingCaseService manualManagingMissingCaseService;
+
+    @Value("${messaging.retry.delays-ms:2000,4000,8000,10000}")
+    private long[] retryDelaysMs;
+
+    @Value("${messaging.dlq.save-retry-delay-ms:30000}")
+    private long saveRetryDelayMs;
+
+    @Value("${messaging.dlq.max-save-attempts:5}")
+    private int maxSaveAttempts;
+
+    @RabbitListener(queues = RabbitMQConfig.DEAD_LETTER_QUEUE,
+            containerFactory = "deadLetterListenerContainerFactory")
+    public void consumeDeadLetters(List<Message> messages, Channel channel) {
+        List<PermanentFailure> permanentFailures = new ArrayList<>();
+        int requeued = 0;
+        int discarded = 0;
+
+        for (Message message : messages) {
+            MessageProperties props = message.getMessageProperties();
+            String originalQueue = DeadLetterFailure.originalQueue(props);
+            if (originalQueue == null) {
+                log.warn("원래 큐 정보를 찾을 수 없음, 메시지 폐기: {}", props.getMessageId());
+                ack(channel, message);
+                discarded++;
+                continue;
+            }
+
+            DeadLetterFailure failure = DeadLetterFailure.classify(props);
+            int dlqRetryCount = getDlqRetryCount(props);
+
+            if (dlqRetryCount >= failure.getMaxDlqRetries()) {
+                log.warn("⚠️ DLQ 재시도 한도 도달 ({}/{}회, 분류={}), 영구 실패 처리: queue={}, messageId={}",
+                        dlqRetryCount, failure.getMaxDlqRetries(), failure, originalQueue, props.getMessageId());
+                permanentFailures.add(new PermanentFailure(message, originalQueue, dlqRetryCount,
+                        failure.failureReason(originalQueue, props)));
+                continue;
+            }
+
+            prepareRetry(props, originalQueue, dlqRetryCount);
+            // 작업 큐면 지연 큐를 거쳐 복귀, 그 외 큐는 바로 재발행
+            String target = Arrays.asList(RabbitMQConfig.RETRY_STAGE_QUEUES).contains(originalQueue)
+                    ? DelayedRetryAdvice.delayQueueName(originalQueue, retryDelaysMs[retryDelaysMs.length - 1])
+                    : originalQueue;
+            if (publishThenAck(channel, message, "", target)) {
+                requeued++;
+                log.info("🔄 DLQ 재시도 ({}회 → {}회, 분류={}): queue={}, messageId={}",
+                        dlqRetryCount, dlqRetryCount + 1, failure, originalQueue, props.getMessageId());
+            }
+        }
+
+        int saved = recordPermanentFailures(channel, permanentFailures);
+
+        log.info("✅ DLQ 배치 처리 완료: 처리={}, 재발행={}, 영구실패={}(저장 {}), 폐기={}",
+                messages.size(), requeued, permanentFailures.size(), saved, discarded);
+    }
+
+    /**
+     * 영구 실패 저장
+     * - 배치로 한 번에 저장하고, 실패하면 건별로 저장해 문제 행만 골라낸다
+     * - 건별로도 실패한 메시지는 지연 큐를 거쳐 DLQ로 되돌리고(DB 장애 시 즉시 재전달 방지),
+     *   저장 시도가 max-save-attempts를 넘으면 parking 큐로 옮긴다
+     * @return 저장된 건수
+     */
+    private int recordPermanentFailures(Channel channel, List<PermanentFailure> failures) {
+        if (failures.isEmpty()) {
+            return 0;
+        }
+        try {
+            manualManagingMissingCaseService.recordFailures(failures.stream()
+                    .map(f -> toManualCase(f.message(), f.failureReason()))
+                    .toList());
+            failures.forEach(f -> ack(channel, f.message()));
+            return failures.size();
+        } catch (Exception e) {
+            log.warn("영구 실패 일괄 저장 실패, 건별로 재시도: {}", e.getMessage());
+        }
+
+        int saved = 0;
+        for (PermanentFailure failure : failures) {
+            try {
+                // 일괄 저장에서 id가 채워졌다가 롤백됐을 수 있으므로 엔티티를 새로 만든다
+                manualManagingMissingCaseService.recordFailures(
+                        List.of(toManualCase(failure.message(), failure.failureReason())));
+                ack(channel, failure.message());
+                saved++;
+            } catch (Exception e) {
+                deferSave(channel, failure, e);
+            }
+        }
+        return saved;
+    }
+
+    private void deferSave(Channel channel, PermanentFailure failure, Exception cause) {
+        Message message = failure.message();
+        MessageProperties props = message.getMessageProperties();
+        Integer previous = props.getHeader(SAVE_ATTEMPTS_HEADER);
+        int attempts = (previous != null ? previous : 0) + 1;
+        props.setHeader(SAVE_ATTEMPTS_HEADER, attempts);
+        // 지연 큐를 거치면 x-death가 바뀌므로 원래 큐와 DLQ 재시도 횟수를 헤더로 고정
+        props.setHeader(DelayedRetryAdvice.ORIGINAL_QUEUE_HEADER, failure.originalQueue());
+        props.setHeader(DLQ_RETRY_COUNT_HEADER, failure.dlqRetryCount());
+
+        if (attempts >= maxSaveAttempts) {
+            log.error("❌ 영구 실패 저장 {}회 실패, parking 큐로 이동: messageId={}, 원인={}",
+                    attempts, props.getMessageId(), cause.getMessage());
+            publishThenAck(channel, message, "", RabbitMQConfig.PARKING_QUEUE);
+        } else {
+            log.warn("영구 실패 저장 실패 ({}/{}회), {}ms 후 재처리: messageId={}, 원인={}",
+                    attempts, maxSaveAttempts, saveRetryDelayMs, props.getMessageId(), cause.getMessage());
+            publishThenAck(channel, message, "",
+                    DelayedRetryAdvice.delayQueueName(RabbitMQConfig.DEAD_LETTER_QUEUE, saveRetryDelayMs));
+        }
+    }
+
+    /**
+     * 브로커 확인을 받은 뒤 원본 ack
+     * 발행이 실패하면 원본을 nack(requeue)해 DLQ로 되돌린다
+     * (ack도 nack도 하지 않으면 채널이 살아 있는 동안 prefetch 자리를 계속 차지해 DLQ 소비가 멈춘다)
+     */
+    private boolean publishThenAck(Channel channel, Message message, String exchange, String routingKey) {
+        try {
+            confirmedPublisher.send(exchange, routingKey, message);
+        } catch (Exception e) {
+            log.error("❌ DLQ 메시지 재발행 실패, DLQ로 되돌림: target={}, messageId={}",
+                    routingKey, message.getMessageProperties().getMessageId(), e);
+            requeue(channel, message);
+            return false;
+        }
+        ack(channel, message);
+        return true;
+    }
+
+    private void ack(Channel channel, Message message) {
+        try {
+            channel.basicAck(message.getMessageProperties().getDeliveryTag(), false);
+        } catch (IOException e) {
+            log.error("❌ DLQ 메시지 ack 실패: messageId={}", message.getMessageProperties().getMessageId(), e);
+        }
+    }
+
+    private void requeue(Channel channel, Message message) {
+        try {
+            channel.basicNack(message.getMessageProperties().getDeliveryTag(), false, true);
+        } catch (IOException e) {
+            log.error("❌ DLQ 메시지 nack 실패: messageId={}", message.getMessageProperties().getMessageId(), e);
+        }
+    }
+
+    private record PermanentFailure(Message message, String originalQueue, int dlqRetryCount, String failureReason) {
+    }
+
+    /**
+     * DLQ 재시도 횟수 조회
+     * - 커스텀 헤더 우선
+     * - 없으면 x-death 헤더에서 count 확인 (폴백)
+     */
+    private int getDlqRetryCount(MessageProperties props) {
+        Integer count = props.getHeader(DLQ_RETRY_COUNT_HEADER);
+        if (count != null) {
+            return count;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> xDeathHeader = (List<Map<String, Object>>) props.getHeader("x-death");
+        if (xDeathHeader != null && !xDeathHeader.isEmpty()) {
+            Long deathCount = (Long) xDeathHeader.get(0).get("count");
+            if (deathCount != null) {
+                // 첫 실패는 0회, 그 다음부터 1회, 2회...로 계산
+                return Math.max(0, deathCount.intValue() - 1);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 재발행 전 헤더 정리
+     * - DLQ 재시도 횟수 증가, 원래 큐에서 지연 큐 재시도를 처음부터 다시 받도록 초기화
+     * - 이전 실패의 예외 정보 제거 (다음 실패가 헤더 없이 들어와도 잘못 분류되지 않도록)
+     */
+    private void prepareRetry(MessageProperties props, String originalQueue, int dlqRetryCount) {
+        Map<String, Object> headers = props.getHeaders();
+        headers.put(DLQ_RETRY_COUNT_HEADER, dlqRetryCount + 1);
+        headers.remove(DelayedRetryAdvice.RETRY_COUNT_HEADER);
+        headers.remove(DelayedRetryAdvice.EXCEPTION_CLASS_HEADER);
+        headers.remove(DelayedRetryAdvice.EXCEPTION_ROOT_CLASS_HEADER);
+        headers.remove(DelayedRetryAdvice.EXCEPTION_MESSAGE_HEADER);
+        headers.remove(DelayedRetryAdvice.EXCEPTION_HTTP_STATUS_HEADER);
+        headers.put(DelayedRetryAdvice.ORIGINAL_QUEUE_HEADER, originalQueue);
+    }
+
+    /**
+     * 메시지 본문에서 caseId, 제목을 꺼내 수기 관리 케이스 생성
+     * - 크롤링 단계 메시지는 caseId가 없을 수 있음
+     */
+    private ManualManagingMissingCase toManualCase(Message message, String failureReason) {
+        Long caseId = null;
+        String title = null;
+        try {
+            JsonNode body = MessageCodecs.mapperFor(message.getMessageProperties().getContentType())
+                    .readTree(message.getBody());
+            JsonNode caseIdNode = body.path("caseId");
+            caseId = caseIdNode.canConvertToLong() ? caseIdNode.asLong() : null;
+            title = body.path("title").isTextual() ? body.path("title").asText() : null;
+        } catch (Exception e) {
+            log.warn("DLQ 메시지 본문 파싱 실패: messageId={}", message.getMessageProperties().getMessageId(), e);
+        }
+
+        return ManualManagingMissingCase.builder()
+                .missingCaseId(caseId)
+                .sourceTitle(title)
+                .failureReason(failureReason)
+                .build();
+    }
+}
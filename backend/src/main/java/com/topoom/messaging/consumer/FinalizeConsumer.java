@@ -6,6 +6,7 @@ import com.topoom.messaging.dto.ImageInfo;
 import com.topoom.messaging.dto.OcrRequestMessage;
 import com.topoom.messaging.exception.CoordinateConversionException;
 import com.topoom.messaging.producer.MessageProducer;
+import com.topoom.messaging.retry.DelayedRetryAdvice;
 import com.topoom.missingcase.service.MissingCaseUpdateService;
 import com.topoom.missingcase.service.CaseAiSupportService;
 import com.topoom.missingcase.entity.MissingCase;
@@ -34,7 +35,7 @@ public class FinalizeConsumer {
     @RabbitListener(queues = RabbitMQConfig.FINALIZE_QUEUE)
     public void consumeFinalize(FinalizeMessage message,
                                 org.springframework.amqp.core.Message rawMessage) {
-        int retryCount = RabbitMQConfig.RetryContextHolder.getRetryCount();
+        int retryCount = DelayedRetryAdvice.retryCount(rawMessage.getMessageProperties());
 
         // 메시지 ID로 재시도 여부 확인
         String messageId = rawMessage.getMessageProperties().getMessageId();
@@ -64,7 +65,7 @@ public class FinalizeConsumer {
             log.error("❌ 최종 업데이트 실패 (재시도 {}회, deliveryCount={}): requestId={}, caseId={}, 예외={}",
                 retryCount, deliveryCount, message.getRequestId(), message.getCaseId(),
                 e.getClass().getSimpleName() + ": " + e.getMessage());
-            throw e; // Retry 및 DLQ 처리
+            throw e; // 지연 큐 재시도 및 DLQ 처리
         }
     }
 
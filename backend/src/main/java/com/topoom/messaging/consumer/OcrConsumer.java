@@ -1,23 +1,22 @@
 package com.topoom.messaging.consumer;
 
 import com.topoom.config.RabbitMQConfig;
+import com.topoom.external.ocr.OcrApiClient;
 import com.topoom.messaging.dto.FinalizeMessage;
 import com.topoom.messaging.dto.OcrRequestMessage;
 import com.topoom.messaging.exception.OcrResultInvalidException;
 import com.topoom.messaging.producer.MessageProducer;
+import com.topoom.messaging.retry.DelayedRetryAdvice;
 import com.topoom.missingcase.service.CaseOcrService;
 import com.topoom.missingcase.service.MissingCaseUpdateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
-import java.time.Duration;
 import java.util.Map;
 
 /**
@@ -26,8 +25,10 @@ import java.util.Map;
  * - OCR API 호출
  * - CaseOcrService를 통한 전처리, 파싱, 필수값 검증
  * - 검증 성공 시 finalize-queue로 발행
+ * - ocr.consumer.mode=blocking(기본)일 때 사용, async 모드는 AsyncOcrConsumer
  */
 @Component
+@ConditionalOnProperty(name = "ocr.consumer.mode", havingValue = "blocking", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class OcrConsumer {
@@ -36,21 +37,20 @@ public class OcrConsumer {
     private final MessageProducer messageProducer;
     private final MissingCaseUpdateService missingCaseUpdateService;
 
-    @Qualifier("ocrWebClient")
-    private final WebClient ocrWebClient;
+    private final OcrApiClient ocrApiClient;
 
     @RabbitListener(queues = RabbitMQConfig.OCR_REQUEST_QUEUE, concurrency = "2-3")
     @Transactional
-    public void consumeOcrRequest(OcrRequestMessage message, Message rawMessage) {
-        // RetryListener에서 설정한 재시도 횟수 확인
-        int actualRetryCount = RabbitMQConfig.RetryContextHolder.getRetryCount();
+    public void consumeOcrRequest(OcrRequestMessage message,
+                                  @Header(name = DelayedRetryAdvice.RETRY_COUNT_HEADER, defaultValue = "0") int actualRetryCount) {
 
         log.info("OCR 처리 시작 (재시도 {}회): requestId={}, caseId={}, s3Key={}",
             actualRetryCount, message.getRequestId(), message.getCaseId(), message.getLastImageS3Key());
 
         try {
             // 1. OCR API 호출
-            String ocrResult = callOcrApi(message.getLastImageS3Key()).block();
+            String s3Key = caseOcrService.resolveLastImageS3Key(message.getCaseId(), message.getLastImageS3Key());
+            String ocrResult = ocrApiClient.extractText(s3Key).block();
 
             // 2. CaseOcrService를 통한 전처리, 파싱, 필수값 검증
             Map<String, Object> parsedData = caseOcrService.processAndValidateOcr(ocrResult);
@@ -67,19 +67,7 @@ public class OcrConsumer {
             missingCaseUpdateService.updateOcrDataOnly(message.getCaseId(), parsedData);
 
             // 5. finalize-queue로 발행
-            FinalizeMessage finalizeMsg = FinalizeMessage.builder()
-                .requestId(message.getRequestId())
-                .blogUrl(message.getPostUrl())
-                .title(message.getTitle())
-                .text(message.getText())
-                .uploadedImages(message.getUploadedImages())
-                .contacts(message.getContacts())
-                .ocrResult(ocrResult)
-                .parsedOcrData(parsedData)
-                .caseId(message.getCaseId())
-                .finalizeRetryCount(message.getFinalizeRetryCount()) // Finalize 재시도 횟수 전달
-                .lastImageS3Key(message.getLastImageS3Key()) // OCR 재시도를 위한 S3 키 전달
-                .build();
+            FinalizeMessage finalizeMsg = FinalizeMessage.fromOcr(message, ocrResult, parsedData);
 
             messageProducer.sendToFinalizeQueue(finalizeMsg);
 
@@ -90,42 +78,12 @@ public class OcrConsumer {
             // 필수값 검증 실패 → 재시도
             log.error("❌ OCR 필수값 검증 실패 (시도 {}회 실패): requestId={}, caseId={}",
                 actualRetryCount, message.getRequestId(), message.getCaseId(), e);
-            throw e; // → RabbitMQ Retry (5번까지)
+            throw e; // → 지연 큐 재시도 (5번까지)
 
         } catch (Exception e) {
             log.error("❌ OCR 처리 중 오류 (시도 {}회 실패): requestId={}, caseId={}",
                 actualRetryCount, message.getRequestId(), message.getCaseId(), e);
-            throw e; // → RabbitMQ Retry
+            throw e; // → 지연 큐 재시도
         }
     }
-
-    /**
-     * OCR API 호출
-     */
-    private Mono<String> callOcrApi(String s3Key) {
-        if (s3Key == null || s3Key.trim().isEmpty()) {
-            log.warn("S3 키가 없음, OCR 스킵");
-            return Mono.just("");
-        }
-
-        Map<String, String> request = Map.of("s3Key", s3Key);
-
-        return ocrWebClient.post()
-            .uri("/s3-direct")
-            .bodyValue(request)
-            .retrieve()
-            .bodyToMono(Map.class)
-            .map(response -> {
-                Boolean success = (Boolean) response.get("success");
-                if (Boolean.TRUE.equals(success)) {
-                    return (String) response.get("extractedText");
-                } else {
-                    throw new RuntimeException("OCR API 호출 실패: " + response.get("error"));
-                }
-            })
-            .timeout(Duration.ofSeconds(30))
-            .doOnSuccess(result -> log.info("OCR API 호출 성공: s3Key={}, 결과 길이={}",
-                s3Key, result != null ? result.length() : 0))
-            .doOnError(error -> log.error("OCR API 호출 실패: s3Key={}", s3Key, error));
-    }
 }
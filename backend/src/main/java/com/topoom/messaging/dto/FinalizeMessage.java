@@ -1,5 +1,6 @@
 package com.topoom.messaging.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +16,7 @@ import java.util.Map;
  * - OCR 완료된 데이터만 포함
  */
 @Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,6 +24,8 @@ public class FinalizeMessage implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    public static final int CLAIM_CHECK_VERSION = 2;
+
     /**
      * 요청 고유 ID
      */
@@ -81,4 +85,48 @@ public class FinalizeMessage implements Serializable {
      * (Finalize 실패 시 OCR 재시도를 위해 필요)
      */
     private String lastImageS3Key;
+
+    /**
+     * 처리 단계 (claim-check 메시지에서 사용)
+     */
+    private MessageStage stage;
+
+    /**
+     * 메시지 형식 버전 (1: 전체 payload, 2: claim-check - 본문 데이터는 DB에서 조회)
+     */
+    @Builder.Default
+    private Integer version = 1;
+
+    /**
+     * OCR 완료 후 finalize-queue로 보낼 메시지 생성
+     */
+    public static FinalizeMessage fromOcr(OcrRequestMessage message, String ocrResult, Map<String, Object> parsedData) {
+        return FinalizeMessage.builder()
+                .requestId(message.getRequestId())
+                .blogUrl(message.getPostUrl())
+                .title(message.getTitle())
+                .text(message.getText())
+                .uploadedImages(message.getUploadedImages())
+                .contacts(message.getContacts())
+                .ocrResult(ocrResult)
+                .parsedOcrData(parsedData)
+                .caseId(message.getCaseId())
+                .finalizeRetryCount(message.getFinalizeRetryCount()) // Finalize 재시도 횟수 전달
+                .lastImageS3Key(message.getLastImageS3Key()) // OCR 재시도를 위한 S3 키 전달
+                .build();
+    }
+
+    /**
+     * claim-check 메시지로 변환 (식별자와 재시도 상태만 유지)
+     * - OCR 파싱 데이터는 OCR 단계에서 이미 MissingCase에 저장됨
+     */
+    public FinalizeMessage toClaimCheck() {
+        return FinalizeMessage.builder()
+                .requestId(requestId)
+                .caseId(caseId)
+                .finalizeRetryCount(finalizeRetryCount)
+                .stage(MessageStage.FINALIZE)
+                .version(CLAIM_CHECK_VERSION)
+                .build();
+    }
 }
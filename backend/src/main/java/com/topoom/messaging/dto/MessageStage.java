@@ -0,0 +1,10 @@
+package com.topoom.messaging.dto;
+
+/**
+ * 메시지 처리 단계 (claim-check 메시지에서 본문 대신 전달)
+ */
+public enum MessageStage {
+    CRAWLING,
+    OCR_REQUEST,
+    FINALIZE
+}
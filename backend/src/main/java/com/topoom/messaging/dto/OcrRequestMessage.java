@@ -1,5 +1,6 @@
 package com.topoom.messaging.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,8 +13,10 @@ import java.util.List;
  * OCR 요청 메시지
  * - S3UploadConsumer가 ocr-request-queue에 발행
  * - OCR 처리 완료 후 finalize-queue로 전달
+ * - null 필드는 직렬화하지 않음 (claim-check 메시지는 식별자만 전송)
  */
 @Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,6 +24,8 @@ public class OcrRequestMessage implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    public static final int CLAIM_CHECK_VERSION = 2;
+
     /**
      * 요청 고유 ID (트래킹용)
      */
@@ -75,4 +80,30 @@ public class OcrRequestMessage implements Serializable {
      */
     @Builder.Default
     private Integer finalizeRetryCount = 0;
+
+    /**
+     * 처리 단계 (claim-check 메시지에서 사용)
+     */
+    private MessageStage stage;
+
+    /**
+     * 메시지 형식 버전 (1: 전체 payload, 2: claim-check - 본문 데이터는 DB에서 조회)
+     */
+    @Builder.Default
+    private Integer version = 1;
+
+    /**
+     * claim-check 메시지로 변환 (식별자와 재시도 상태만 유지)
+     * - 마지막 이미지 S3 키 등은 Consumer가 caseId로 DB에서 조회
+     */
+    public OcrRequestMessage toClaimCheck() {
+        return OcrRequestMessage.builder()
+                .requestId(requestId)
+                .caseId(caseId)
+                .retryCount(null)
+                .finalizeRetryCount(finalizeRetryCount)
+                .stage(MessageStage.OCR_REQUEST)
+                .version(CLAIM_CHECK_VERSION)
+                .build();
+    }
 }
@@ -5,11 +5,13 @@ import com.topoom.messaging.dto.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
  * 메시지 발행 공통 클래스
  * - RabbitTemplate을 사용하여 각 큐에 메시지 발행
+ * - messaging.claim-check.enabled=true이면 OCR/finalize 메시지는 식별자만 발행 (본문 데이터는 DB에서 조회)
  */
 @Component
 @RequiredArgsConstructor
@@ -18,6 +20,9 @@ public class MessageProducer {
 
     private final RabbitTemplate rabbitTemplate;
 
+    @Value("${messaging.claim-check.enabled:false}")
+    private boolean claimCheckEnabled;
+
     /**
      * crawling-queue에 블로그 게시글 크롤링 메시지 발행
      */
@@ -33,7 +38,8 @@ public class MessageProducer {
     public void sendToOcrQueue(OcrRequestMessage message) {
         log.info("발행: ocr-request-queue - requestId={}, caseId={}, s3Key={}",
             message.getRequestId(), message.getCaseId(), message.getLastImageS3Key());
-        rabbitTemplate.convertAndSend(RabbitMQConfig.OCR_REQUEST_QUEUE, message);
+        rabbitTemplate.convertAndSend(RabbitMQConfig.OCR_REQUEST_QUEUE,
+            claimCheckEnabled ? message.toClaimCheck() : message);
     }
 
     /**
@@ -42,6 +48,7 @@ public class MessageProducer {
     public void sendToFinalizeQueue(FinalizeMessage message) {
         log.info("발행: finalize-queue - requestId={}, ocrResult={}",
             message.getRequestId(), message.getOcrResult() != null ? "있음" : "없음");
-        rabbitTemplate.convertAndSend(RabbitMQConfig.FINALIZE_QUEUE, message);
+        rabbitTemplate.convertAndSend(RabbitMQConfig.FINALIZE_QUEUE,
+            claimCheckEnabled ? message.toClaimCheck() : message);
     }
 }
@@ -0,0 +1,33 @@
+package com.topoom.messaging.retry;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브로커 확인(publisher confirm)을 기다리는 발행
+ * - 원본 메시지를 ack하기 전에 재발행이 브로커에 저장됐는지 확인해야 하는 곳에서 사용 (재시도/DLQ 재처리)
+ * - spring.rabbitmq.publisher-confirm-type=simple 필요
+ * - 확인 실패/시간 초과 시 AmqpException (호출자는 원본을 ack하지 않아야 함)
+ */
+@Component
+public class ConfirmedPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final long confirmTimeoutMs;
+
+    public ConfirmedPublisher(RabbitTemplate rabbitTemplate,
+                              @Value("${messaging.publish.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+    }
+
+    public void send(String exchange, String routingKey, Message message) {
+        rabbitTemplate.invoke(operations -> {
+            operations.send(exchange, routingKey, message);
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,157 @@
+package com.topoom.messaging.retry;
+
+import com.topoom.config.RabbitMQConfig;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DLQ 메시지 실패 분류
+ * - DelayedRetryAdvice가 기록한 예외 헤더와 원래 큐로 분류
+ * - 분류별로 DLQ 재발행 허용 횟수가 다르며, 0이면 즉시 수기 관리 대상
+ */
+public enum DeadLetterFailure {
+
+    /** 좌표 변환 실패: FinalizeConsumer가 이미 OCR부터 3번 재시도한 뒤라 즉시 수기 관리 */
+    COORDINATE(0),
+    /** OCR 필수값 누락: OCR 결과가 달라질 수 있어 한 번 더 시도 */
+    OCR_INVALID(1),
+    /** 외부 API 5xx/429, 타임아웃, 연결 실패, WebDriver 풀 포화: 일시 장애로 보고 여러 번 재시도 */
+    TRANSIENT(5),
+    /** 외부 API 4xx, 메시지 변환 실패: 재시도해도 같은 결과 */
+    PERMANENT(0),
+    /** 예외 정보 없음 (브로커 nack 등) */
+    UNKNOWN(3);
+
+    private static final Set<String> TRANSIENT_EXCEPTIONS = Set.of(
+            "java.util.concurrent.TimeoutException",
+            "java.net.SocketTimeoutException",
+            "java.net.ConnectException",
+            "java.net.UnknownHostException",
+            "io.netty.handler.timeout.ReadTimeoutException",
+            "org.springframework.web.reactive.function.client.WebClientRequestException",
+            "org.springframework.web.client.ResourceAccessException",
+            "org.springframework.dao.TransientDataAccessResourceException",
+            "org.springframework.dao.QueryTimeoutException",
+            "org.springframework.dao.CannotAcquireLockException",
+            "com.topoom.external.blog.webdriver.WebDriverPoolExhaustedException");
+
+    private static final Set<String> PERMANENT_EXCEPTIONS = Set.of(
+            "org.springframework.amqp.support.converter.MessageConversionException",
+            "org.springframework.messaging.converter.MessageConversionException",
+            "com.fasterxml.jackson.databind.exc.MismatchedInputException",
+            "com.fasterxml.jackson.core.JsonParseException");
+
+    private final int maxDlqRetries;
+
+    DeadLetterFailure(int maxDlqRetries) {
+        this.maxDlqRetries = maxDlqRetries;
+    }
+
+    public int getMaxDlqRetries() {
+        return maxDlqRetries;
+    }
+
+    /**
+     * 예외 헤더로 실패 분류
+     */
+    public static DeadLetterFailure classify(MessageProperties props) {
+        String exceptionClass = props.getHeader(DelayedRetryAdvice.EXCEPTION_CLASS_HEADER);
+        String rootClass = props.getHeader(DelayedRetryAdvice.EXCEPTION_ROOT_CLASS_HEADER);
+        Object httpStatus = props.getHeader(DelayedRetryAdvice.EXCEPTION_HTTP_STATUS_HEADER);
+
+        if (exceptionClass == null && rootClass == null) {
+            return UNKNOWN;
+        }
+        if (matches(exceptionClass, rootClass, "CoordinateConversionException")) {
+            return COORDINATE;
+        }
+        if (matches(exceptionClass, rootClass, "OcrResultInvalidException")) {
+            return OCR_INVALID;
+        }
+        if (httpStatus instanceof Number status) {
+            int code = status.intValue();
+            return code >= 500 || code == 429 ? TRANSIENT : PERMANENT;
+        }
+        if (TRANSIENT_EXCEPTIONS.contains(exceptionClass) || TRANSIENT_EXCEPTIONS.contains(rootClass)) {
+            return TRANSIENT;
+        }
+        if (PERMANENT_EXCEPTIONS.contains(exceptionClass) || PERMANENT_EXCEPTIONS.contains(rootClass)) {
+            return PERMANENT;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * 원래 큐 이름 추출
+     * x-original-queue, x-death 헤더, x-first-death-queue, 라우팅 키 순서로 확인
+     */
+    public static String originalQueue(MessageProperties props) {
+        String originalQueue = props.getHeader(DelayedRetryAdvice.ORIGINAL_QUEUE_HEADER);
+        if (originalQueue != null) {
+            return originalQueue;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> xDeathHeader = (List<Map<String, Object>>) props.getHeader("x-death");
+        if (xDeathHeader != null && !xDeathHeader.isEmpty()) {
+            String queue = (String) xDeathHeader.get(0).get("queue");
+            if (queue != null) {
+                return queue;
+            }
+        }
+
+        String firstDeathQueue = props.getHeader("x-first-death-queue");
+        if (firstDeathQueue != null) {
+            return firstDeathQueue;
+        }
+
+        // routing key에서 추출 (예: "crawling-queue.dlq" → "crawling-queue")
+        String receivedRoutingKey = props.getReceivedRoutingKey();
+        if (receivedRoutingKey != null && receivedRoutingKey.endsWith(".dlq")) {
+            return receivedRoutingKey.substring(0, receivedRoutingKey.length() - ".dlq".length());
+        }
+        return null;
+    }
+
+    /**
+     * 수기 관리 테이블에 기록할 실패 사유
+     */
+    public String failureReason(String originalQueue, MessageProperties props) {
+        if (this == COORDINATE) {
+            return "위경도 변환 불가";
+        }
+        if (this == OCR_INVALID) {
+            return "OCR 처리 불가";
+        }
+
+        String exceptionMessage = props.getHeader(DelayedRetryAdvice.EXCEPTION_MESSAGE_HEADER);
+        if (exceptionMessage != null) {
+            if (exceptionMessage.contains("좌표") || exceptionMessage.contains("coordinate")) {
+                return "위경도 변환 불가";
+            } else if (exceptionMessage.contains("OCR")) {
+                return "OCR 처리 불가";
+            } else if (exceptionMessage.contains("S3")) {
+                return "S3 저장 불가";
+            } else if (exceptionMessage.contains("크롤링")) {
+                return "게시글 크롤링 불가";
+            }
+        }
+
+        if (RabbitMQConfig.FINALIZE_QUEUE.equals(originalQueue)) {
+            return "위경도 변환 불가";
+        } else if (RabbitMQConfig.OCR_REQUEST_QUEUE.equals(originalQueue)) {
+            return "OCR 처리 불가";
+        } else if (RabbitMQConfig.CRAWLING_QUEUE.equals(originalQueue)) {
+            return "게시글 크롤링 불가";
+        }
+        return "처리 불가";
+    }
+
+    private static boolean matches(String exceptionClass, String rootClass, String simpleName) {
+        return (exceptionClass != null && exceptionClass.endsWith("." + simpleName))
+                || (rootClass != null && rootClass.endsWith("." + simpleName));
+    }
+}
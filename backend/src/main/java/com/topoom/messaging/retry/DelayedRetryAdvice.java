@@ -0,0 +1,124 @@
+package com.topoom.messaging.retry;
+
+import com.topoom.config.RabbitMQConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * 지연 큐 기반 재시도 Advice (리스너 컨테이너 adviceChain)
+ * - 리스너 실패 시 스레드에서 대기하지 않고 "<큐>.retry.<지연ms>" 지연 큐로 재발행 후 원본 ack
+ * - 재발행은 브로커 확인을 받은 뒤에만 원본을 ack (확인 실패 시 원래 예외를 던져 nack → DLX)
+ * - 지연 큐의 TTL이 지나면 기본 exchange를 통해 원래 작업 큐로 dead-letter 되어 다시 소비됨
+ * - 재시도 횟수는 x-retry-count 헤더로 전달 (브로커에 저장되므로 재시작 후에도 유지)
+ * - 재시도 소진 시 예외 정보(클래스, 근본 원인, HTTP 상태)를 헤더에 담아 DLX(<큐>.dlq)로 발행
+ */
+@Slf4j
+public class DelayedRetryAdvice implements MethodInterceptor {
+
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+    public static final String ORIGINAL_QUEUE_HEADER = "x-original-queue";
+    public static final String EXCEPTION_MESSAGE_HEADER = "x-exception-message";
+    public static final String EXCEPTION_CLASS_HEADER = "x-exception-class";
+    public static final String EXCEPTION_ROOT_CLASS_HEADER = "x-exception-root-class";
+    public static final String EXCEPTION_HTTP_STATUS_HEADER = "x-exception-http-status";
+
+    private final ConfirmedPublisher publisher;
+    private final long[] delaysMs;
+
+    public DelayedRetryAdvice(ConfirmedPublisher publisher, long[] delaysMs) {
+        this.publisher = publisher;
+        this.delaysMs = delaysMs;
+    }
+
+    /**
+     * 작업 큐별 지연 큐 이름
+     */
+    public static String delayQueueName(String queue, long delayMs) {
+        return queue + ".retry." + delayMs;
+    }
+
+    /**
+     * 메시지의 재시도 횟수 (첫 시도는 0)
+     */
+    public static int retryCount(MessageProperties properties) {
+        Object value = properties.getHeader(RETRY_COUNT_HEADER);
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        try {
+            return invocation.proceed();
+        } catch (Throwable t) {
+            Object data = invocation.getArguments()[1];
+            if (!(data instanceof Message message) || message.getMessageProperties().getConsumerQueue() == null) {
+                throw t; // 배치 리스너 등 → 컨테이너 기본 처리 (nack → DLQ)
+            }
+            try {
+                reschedule(message, t);
+            } catch (Exception publishError) {
+                log.error("❌ 재시도 재발행 실패, 원본 nack: queue={}, 원인={}",
+                        message.getMessageProperties().getConsumerQueue(), publishError.getMessage());
+                throw t;
+            }
+            return null; // 재발행 확인 완료 → 원본 메시지 ack
+        }
+    }
+
+    /**
+     * 실패한 메시지를 다음 지연 큐(또는 재시도 소진 시 DLX)로 재발행 (브로커 확인까지 대기)
+     * - 리스너 컨테이너 밖에서 실패를 처리하는 Consumer(AsyncOcrConsumer)도 같은 경로를 사용
+     * @throws org.springframework.amqp.AmqpException 재발행 확인 실패 (호출자는 원본을 ack하지 않아야 함)
+     */
+    public void reschedule(Message message, Throwable failure) {
+        MessageProperties props = message.getMessageProperties();
+        String queue = props.getConsumerQueue();
+        int retryCount = retryCount(props);
+        Throwable cause = failure instanceof ListenerExecutionFailedException && failure.getCause() != null
+                ? failure.getCause() : failure;
+
+        if (retryCount < delaysMs.length) {
+            long delayMs = delaysMs[retryCount];
+            props.setHeader(RETRY_COUNT_HEADER, retryCount + 1);
+            publisher.send("", delayQueueName(queue, delayMs), message);
+            log.warn("❌ 재시도 예약: {}회차 실패 (다음: {}회차, {}ms 후), queue={}, 예외={}, 메시지={}",
+                    retryCount + 1, retryCount + 2, delayMs, queue,
+                    cause.getClass().getSimpleName(), cause.getMessage());
+            return;
+        }
+
+        props.setHeader(ORIGINAL_QUEUE_HEADER, queue);
+        props.setHeader(EXCEPTION_CLASS_HEADER, cause.getClass().getName());
+        props.setHeader(EXCEPTION_MESSAGE_HEADER, String.valueOf(cause.getMessage()));
+        props.setHeader(EXCEPTION_ROOT_CLASS_HEADER, NestedExceptionUtils.getMostSpecificCause(cause).getClass().getName());
+        Integer httpStatus = httpStatus(cause);
+        if (httpStatus != null) {
+            props.setHeader(EXCEPTION_HTTP_STATUS_HEADER, httpStatus);
+        }
+        publisher.send(RabbitMQConfig.DEAD_LETTER_EXCHANGE, queue + ".dlq", message);
+        log.error("⚠️ 모든 재시도 실패 (총 {}회 시도), DLQ로 이동: queue={}, 최종 예외={}",
+                retryCount + 1, queue, cause.getClass().getSimpleName());
+    }
+
+    /**
+     * 원인 체인에서 외부 API 응답 상태 코드 추출 (없으면 null)
+     */
+    private static Integer httpStatus(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof WebClientResponseException e) {
+                return e.getStatusCode().value();
+            }
+            if (t instanceof RestClientResponseException e) {
+                return e.getStatusCode().value();
+            }
+        }
+        return null;
+    }
+}
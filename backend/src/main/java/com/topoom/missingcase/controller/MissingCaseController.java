@@ -2,12 +2,17 @@ package com.topoom.missingcase.controller;
 
 import com.topoom.common.ApiResponse;
 import com.topoom.external.openapi.Safe182Client;
+import com.topoom.maintenance.job.CrawledAtBackfillJob;
+import com.topoom.maintenance.service.MaintenanceJobRunner;
 import com.topoom.missingcase.dto.*;
 import com.topoom.missingcase.service.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -21,30 +26,94 @@ public class MissingCaseController {
     private final MissingCaseService missingCaseService;
     private final MissingCaseSyncService missingCaseSyncService;
     private final CaseReportService caseReportService;
+    private final ReportIngestionService reportIngestionService;
     private final CaseOcrService caseOcrService;
     private final CaseDetectionService caseDetectionService;
+    private final MissingCaseListReadModel missingCaseListReadModel;
+    private final MissingCaseDetailCache missingCaseDetailCache;
+    private final MissingCaseTileIndex missingCaseTileIndex;
+    private final MissingCaseStatsAggregator missingCaseStatsAggregator;
+    private final MaintenanceJobRunner maintenanceJobRunner;
+    private final SightingHeatmapService sightingHeatmapService;
 
+    /**
+     * 전체 목록: 읽기 모델에 미리 직렬화된 JSON을 그대로 내려주고, If-None-Match가 일치하면 304
+     * (약한 검증자 W/"...", 쉼표로 나열된 목록, * 는 checkNotModified가 RFC 9110 규칙으로 비교)
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<MissingCaseListResponse>>> getAllCases() {
-        List<MissingCaseListResponse> cases = missingCaseService.getAllCases();
-        return ResponseEntity.ok(ApiResponse.success(cases));
+    public ResponseEntity<byte[]> getAllCases(WebRequest request) {
+        MissingCaseListReadModel.Snapshot snapshot = missingCaseListReadModel.current();
+        if (request.checkNotModified(snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.json());
+    }
+
+    /**
+     * 커서 페이지 모드: size 파라미터가 있으면 전체 목록 대신 한 페이지씩 반환
+     */
+    @GetMapping(params = "size")
+    public ResponseEntity<ApiResponse<MissingCaseCursorPage>> getCasesPage(
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(ApiResponse.success(missingCaseService.getCasesPage(cursor, size)));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<MissingCaseListResponse>>> getNearbyCases(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "1.0") double radiusKm) {
+        return ResponseEntity.ok(ApiResponse.success(missingCaseService.getCasesNear(latitude, longitude, radiusKm)));
     }
 
+    /**
+     * 지도 타일(XYZ) 조회: 낮은 줌은 묶음, 높은 줌은 개별 사건
+     */
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    public ResponseEntity<ApiResponse<MissingCaseTileResponse>> getTile(
+            @PathVariable int z, @PathVariable int x, @PathVariable int y) {
+        return ResponseEntity.ok(ApiResponse.success(missingCaseTileIndex.getTile(z, x, y)));
+    }
+
+    /**
+     * 상세: 캐시된 JSON을 그대로 내려주고, If-None-Match가 일치하면 304
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<MissingCaseDetailResponse>> getCaseDetail(@PathVariable Long id) {
-        return ResponseEntity.ok(ApiResponse.success(missingCaseService.getCaseDetail(id)));
+    public ResponseEntity<byte[]> getCaseDetail(@PathVariable Long id, WebRequest request) {
+        MissingCaseDetailCache.CachedDetail detail = missingCaseDetailCache.get(id);
+        if (request.checkNotModified(detail.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(detail.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(detail.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(detail.json());
     }
 
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<MissingCaseStatsResponse>> getStats() {
-        MissingCaseStatsResponse stats = missingCaseService.getStats();
+        MissingCaseStatsResponse stats = missingCaseStatsAggregator.today();
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
 
+    /**
+     * 통계 시계열 (최근 집계 구간, 시간/일 단위)
+     */
+    @GetMapping("/stats/series")
+    public ResponseEntity<ApiResponse<List<MissingCaseStatsPoint>>> getStatsSeries(
+            @RequestParam(defaultValue = "HOURLY") MissingCaseStatsAggregator.Granularity granularity) {
+        return ResponseEntity.ok(ApiResponse.success(missingCaseStatsAggregator.series(granularity)));
+    }
+
     @GetMapping("/recent/{hours}")
-    public ResponseEntity<ApiResponse<List<MissingCaseListResponse>>> getRecentCases(@PathVariable Integer hours) {
-        List<MissingCaseListResponse> cases = missingCaseService.getRecentCases(hours);
-        return ResponseEntity.ok(ApiResponse.success(cases));
+    public ResponseEntity<StreamingResponseBody> getRecentCases(@PathVariable Integer hours) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(missingCaseService.streamRecentCases(hours));
     }
 
     @GetMapping("/call")
@@ -53,11 +122,28 @@ public class MissingCaseController {
         return ResponseEntity.ok(ApiResponse.success(safe182Client.getMissing(100)));
     }
 
+    /**
+     * 제보 등록: 제보 행을 커밋한 뒤 201 Created
+     * - 응답 시점에 제보는 이미 저장되어 있다 (202 Accepted로 접수만 하고 나중에 저장하지 않음)
+     * - 목격 장소 좌표 변환만 백그라운드에서 묶어서 처리하므로, 좌표(latitude/longitude)는
+     *   GET /report/{id}에서 잠시 null일 수 있고 변환이 끝나면 채워진다 (실패 시 주기적 스윕이 재시도)
+     */
     @PostMapping("/report")
     public ResponseEntity<ApiResponse<Void>> createReport(@RequestBody CaseReportRequest reportRequest) {
+        reportIngestionService.submit(reportRequest);
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("제보가 성공적으로 등록되었습니다.", null));
     }
 
+    /**
+     * 목격 히트맵: 제보/CCTV 탐지의 격자별 시간 감쇠 가중치
+     */
+    @GetMapping("/{id}/heatmap")
+    public ResponseEntity<ApiResponse<SightingHeatmapResponse>> getHeatmap(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0.01") double minWeight) {
+        return ResponseEntity.ok(ApiResponse.success(sightingHeatmapService.getHeatmap(id, minWeight)));
+    }
+
     @GetMapping("/report/{id}")
     public ResponseEntity<ApiResponse<List<CaseReportResponse>>> getReports(@PathVariable Long id) {
         return ResponseEntity.ok(ApiResponse.success(caseReportService.getReportsByCaseId(id)));
@@ -65,16 +151,16 @@ public class MissingCaseController {
 
     /**
      * 초기 데이터용: 모든 MissingCase의 crawled_at을 occurred_at으로 일괄 업데이트
-     * 최초 한 번만 실행
+     * 유지보수 작업(crawled-at-backfill)으로 백그라운드 실행, 진행 상황은 /api/v1/maintenance/jobs/crawled-at-backfill
      */
     @PostMapping("/init-crawled-at")
     public ResponseEntity<Map<String, Object>> initCrawledAt() {
         try {
-            int updatedCount = missingCaseService.updateCrawledAtToOccurredAt();
-            return ResponseEntity.ok(Map.of(
-                    "success", true,
-                    "message", "crawled_at 업데이트 완료",
-                    "updatedCount", updatedCount
+            boolean started = maintenanceJobRunner.start(CrawledAtBackfillJob.NAME, false);
+            return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT).body(Map.of(
+                    "success", started,
+                    "message", started ? "crawled_at 업데이트 시작" : "crawled_at 업데이트가 이미 실행 중입니다",
+                    "jobName", CrawledAtBackfillJob.NAME
             ));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
@@ -110,5 +196,26 @@ public class MissingCaseController {
         return ResponseEntity.ok(ApiResponse.success(caseDetectionService.getDetection(id)));
     }
 
+    /**
+     * CCTV 탐지 결과 페이지 모드: size 파라미터가 있으면 정렬된 한 페이지만 반환
+     */
+    @GetMapping(value = "/cctv/{id}", params = "size")
+    public ResponseEntity<ApiResponse<CaseDetectionPage>> getDetectionPage(
+            @PathVariable Long id,
+            @RequestParam int size,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "SIMILARITY") CaseDetectionService.DetectionSort sort) {
+        return ResponseEntity.ok(ApiResponse.success(caseDetectionService.getDetectionPage(id, sort, page, size)));
+    }
+
+    /**
+     * AI 인물 탐색기가 탐지 결과를 기록한 뒤 호출 (탐지 캐시 무효화)
+     */
+    @PostMapping("/cctv/{id}/refresh")
+    public ResponseEntity<ApiResponse<Void>> refreshDetection(@PathVariable Long id) {
+        caseDetectionService.notifyDetectionsUpdated(id);
+        return ResponseEntity.ok(ApiResponse.success("탐지 결과 캐시가 갱신되었습니다.", null));
+    }
+
 
 }
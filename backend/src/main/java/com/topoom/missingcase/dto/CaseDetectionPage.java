@@ -0,0 +1,17 @@
+package com.topoom.missingcase.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CaseDetectionPage {
+    private List<CaseDetectionResponse> items;
+    private int page;
+    private int size;
+    private long totalCount;
+    private boolean hasNext;
+}
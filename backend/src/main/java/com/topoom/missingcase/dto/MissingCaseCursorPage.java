@@ -0,0 +1,15 @@
+package com.topoom.missingcase.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MissingCaseCursorPage {
+    private List<MissingCaseListResponse> items;
+    private String nextCursor;   // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
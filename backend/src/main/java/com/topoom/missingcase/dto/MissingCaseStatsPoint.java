@@ -0,0 +1,20 @@
+package com.topoom.missingcase.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통계 시계열의 한 구간 (시간/일 단위)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MissingCaseStatsPoint {
+    private LocalDateTime bucketStart;
+    private Long totalCases;
+    private Long totalReports;
+    private Long totalResolved;
+}
@@ -0,0 +1,33 @@
+package com.topoom.missingcase.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 지도 타일 응답
+ * 낮은 줌에서는 clusters(묶음), 높은 줌이거나 타일 안 사건이 적으면 cases(개별 사건)를 채운다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MissingCaseTileResponse {
+    private int z;
+    private int x;
+    private int y;
+    private int totalCount;
+    private List<Cluster> clusters;
+    private List<MissingCaseListResponse> cases;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Cluster {
+        private double latitude;     // 묶인 사건들의 평균 위치
+        private double longitude;
+        private int count;
+        private Long caseId;         // 사건이 하나뿐인 묶음이면 해당 사건 ID
+    }
+}
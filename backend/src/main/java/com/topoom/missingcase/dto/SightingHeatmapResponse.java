@@ -0,0 +1,33 @@
+package com.topoom.missingcase.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사건별 목격 밀도 (제보 + CCTV 탐지, 시간 감쇠 가중치)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SightingHeatmapResponse {
+    private Long caseId;
+    private int cellZoom;            // 격자 한 칸 = 이 줌 레벨의 지도 타일 한 장
+    private double halfLifeHours;
+    private LocalDateTime generatedAt;
+    private List<Cell> cells;        // 가중치 내림차순
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Cell {
+        private double latitude;     // 칸 중심
+        private double longitude;
+        private double weight;
+        private int reportCount;
+        private int detectionCount;
+    }
+}
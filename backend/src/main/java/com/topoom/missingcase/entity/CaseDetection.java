@@ -7,7 +7,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "case_detection")
+@Table(name = "case_detection",
+        indexes = {
+                @Index(name = "ix_case_detection_case_score", columnList = "case_id, similarity_score"),
+                @Index(name = "ix_case_detection_case_detected", columnList = "case_id, detected_at")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
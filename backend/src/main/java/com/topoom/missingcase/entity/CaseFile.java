@@ -10,8 +10,10 @@ import java.time.LocalDateTime;
 @Table(name = "case_file",
         indexes = {
                 @Index(name = "ix_case_file_case_seq", columnList = "case_id, source_seq"),
-                @Index(name = "ix_case_file_is_last", columnList = "case_id, is_last_image")
+                @Index(name = "ix_case_file_is_last", columnList = "case_id, is_last_image"),
+                @Index(name = "ix_case_file_checksum", columnList = "checksum")
         })
+@EntityListeners(CaseFileEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -52,6 +54,15 @@ public class CaseFile extends BaseTimeEntity {
     @Column(name = "size_bytes")
     private Long sizeBytes;
 
+    @Column(name = "checksum", columnDefinition = "CHAR(64)")
+    private String checksum;
+
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
     @Column(name = "source_url", columnDefinition = "TEXT")
     private String sourceUrl;
 
@@ -0,0 +1,28 @@
+package com.topoom.missingcase.entity;
+
+import com.topoom.missingcase.event.CaseDetailChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * CaseFile 변경 감지 → 연결된 사건의 상세 캐시 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class CaseFileEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(CaseFile caseFile) {
+        if (caseFile.getMissingCase() != null) {
+            eventPublisher.publishEvent(new CaseDetailChangedEvent(caseFile.getMissingCase().getId()));
+        }
+    }
+}
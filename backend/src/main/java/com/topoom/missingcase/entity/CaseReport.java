@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "case_report",
         indexes = {
-                @Index(name = "ix_case_report_case", columnList = "case_id")
+                @Index(name = "ix_case_report_case", columnList = "case_id"),
+                @Index(name = "ix_case_report_created_at", columnList = "created_at")
         })
 @Getter
 @Setter
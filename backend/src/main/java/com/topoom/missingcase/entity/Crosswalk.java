@@ -7,7 +7,10 @@ import lombok.*;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "crosswalk")
+@Table(name = "crosswalk",
+        indexes = {
+                @Index(name = "ix_crosswalk_lat_lng", columnList = "latitude, longitude")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -12,7 +12,14 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "missing_case")
+@Table(name = "missing_case",
+        indexes = {
+                @Index(name = "ix_missing_case_lat_lng", columnList = "latitude, longitude"),
+                @Index(name = "ix_missing_case_deleted_occurred", columnList = "is_deleted, occurred_at, id"),
+                @Index(name = "ix_missing_case_occurred_at", columnList = "occurred_at"),
+                @Index(name = "ix_missing_case_deleted_updated", columnList = "is_deleted, updated_at"),
+                @Index(name = "ix_missing_case_deleted_crawled", columnList = "is_deleted, crawled_at, id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -97,6 +104,14 @@ public class MissingCase extends BaseTimeEntity {
     @Column(name = "crawled_at", nullable = false)
     private LocalDateTime crawledAt;
 
+    // 외부 원천(Safe182) 항목 필드의 SHA-256 (변경 감지용, 사진 제외)
+    @Column(name = "source_fingerprint", columnDefinition = "CHAR(64)", length = 64)
+    private String sourceFingerprint;
+
+    // 외부 원천 사진 바이트의 SHA-256 (사진 변경 감지용)
+    @Column(name = "photo_checksum", columnDefinition = "CHAR(64)", length = 64)
+    private String photoChecksum;
+
     @Builder.Default
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted = false;
@@ -0,0 +1,13 @@
+package com.topoom.missingcase.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사건 상세에만 영향을 주는 변경 (파일 추가/삭제, AI 분석 결과 저장) - 상세 캐시 무효화에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class CaseDetailChangedEvent {
+    private final Long caseId;
+}
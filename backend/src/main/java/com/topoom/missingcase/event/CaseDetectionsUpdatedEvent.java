@@ -0,0 +1,13 @@
+package com.topoom.missingcase.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI 인물 탐색기가 사건의 CCTV 탐지 결과를 새로 기록함 - 탐지 캐시 무효화에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class CaseDetectionsUpdatedEvent {
+    private final Long caseId;
+}
@@ -0,0 +1,23 @@
+package com.topoom.missingcase.event;
+
+import com.topoom.missingcase.entity.CaseReport.CertaintyLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 목격 제보 저장 - 히트맵 증분 반영에 사용
+ * 접수 직후에는 좌표가 없고, 백그라운드 좌표 변환이 끝나면 좌표를 담아 한 번 더 발행된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CaseReportSavedEvent {
+    private final Long caseId;
+    private final Long reportId;
+    private final BigDecimal latitude;
+    private final BigDecimal longitude;
+    private final CertaintyLevel certaintyLevel;
+    private final LocalDateTime sightedAt;
+}
@@ -0,0 +1,40 @@
+package com.topoom.missingcase.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통계 카운터 증감 (사건 발생/제보 등록/해결) - MissingCaseStatsAggregator가 커밋 후 반영
+ */
+@Getter
+@RequiredArgsConstructor
+public class CaseStatsEvent {
+
+    public enum Metric {
+        CASES,      // 발생일(occurred_at) 기준 사건 수
+        REPORTS,    // 등록일(created_at) 기준 제보 수
+        RESOLVED    // 삭제(해결) 처리 시각(updated_at) 기준 사건 수
+    }
+
+    private final Metric metric;
+    private final LocalDateTime at;
+    private final int delta;
+
+    public static CaseStatsEvent caseCreated(LocalDateTime occurredAt) {
+        return new CaseStatsEvent(Metric.CASES, occurredAt, 1);
+    }
+
+    public static CaseStatsEvent reportCreated() {
+        return new CaseStatsEvent(Metric.REPORTS, LocalDateTime.now(), 1);
+    }
+
+    public static CaseStatsEvent resolved() {
+        return new CaseStatsEvent(Metric.RESOLVED, LocalDateTime.now(), 1);
+    }
+
+    public static CaseStatsEvent unresolved() {
+        return new CaseStatsEvent(Metric.RESOLVED, LocalDateTime.now(), -1);
+    }
+}
@@ -0,0 +1,13 @@
+package com.topoom.missingcase.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 횡단보도 데이터 적재 완료 이벤트 (공간 인덱스 재구성용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CrosswalkDataImportedEvent {
+    private final int savedCount;
+}
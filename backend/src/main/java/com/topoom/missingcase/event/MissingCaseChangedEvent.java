@@ -0,0 +1,19 @@
+package com.topoom.missingcase.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 실종 사건 내용 변경 (생성/수정/삭제/복구) - 조회용 캐시 갱신에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class MissingCaseChangedEvent {
+    private final Set<Long> caseIds;
+
+    public static MissingCaseChangedEvent of(Long caseId) {
+        return new MissingCaseChangedEvent(Set.of(caseId));
+    }
+}
@@ -2,11 +2,30 @@ package com.topoom.missingcase.repository;
 
 import com.topoom.missingcase.entity.CaseContact;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CaseContactRepository extends JpaRepository<CaseContact, Long> {
     List<CaseContact> findByMissingCaseId(Long missingCaseId);
+
+    /**
+     * 여러 사건의 전화번호를 한 번에 조회 (목록 화면용)
+     */
+    @Query("""
+        SELECT c.missingCase.id AS caseId, c.phoneNumber AS phoneNumber
+        FROM CaseContact c
+        WHERE c.missingCase.id IN :caseIds
+        ORDER BY c.id
+    """)
+    List<CasePhoneNumber> findPhoneNumbersByCaseIdIn(@Param("caseIds") Collection<Long> caseIds);
+
+    interface CasePhoneNumber {
+        Long getCaseId();
+        String getPhoneNumber();
+    }
 }
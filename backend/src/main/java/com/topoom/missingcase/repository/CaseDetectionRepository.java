@@ -1,10 +1,53 @@
 package com.topoom.missingcase.repository;
 
 import com.topoom.missingcase.entity.CaseDetection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CaseDetectionRepository extends JpaRepository<CaseDetection, Long> {
-    List<CaseDetection> findByCaseId(Long caseId);
+    List<CaseDetection> findByCaseId(Long caseId, Sort sort);
+
+    /**
+     * 정렬된 페이지 조회 (ix_case_detection_case_score / ix_case_detection_case_detected 인덱스 사용)
+     */
+    List<CaseDetection> findByCaseId(Long caseId, Pageable pageable);
+
+    /**
+     * 캐시 신선도 확인용 (건수, 최대 id) - case_id 인덱스만으로 계산된다
+     */
+    @Query("SELECT COUNT(d) AS count, MAX(d.id) AS maxId FROM CaseDetection d WHERE d.caseId = :caseId")
+    DetectionStamp findStampByCaseId(@Param("caseId") Long caseId);
+
+    /**
+     * 히트맵 증분 반영용: afterId 이후 기록된 좌표가 있는 탐지 (id 오름차순)
+     */
+    @Query("""
+        SELECT d.id AS id, d.latitude AS latitude, d.longitude AS longitude,
+               d.similarityScore AS similarityScore, d.detectedAt AS detectedAt
+        FROM CaseDetection d
+        WHERE d.caseId = :caseId AND d.id > :afterId
+        AND d.latitude IS NOT NULL AND d.longitude IS NOT NULL
+        ORDER BY d.id
+    """)
+    List<DetectionPoint> findPointsByCaseIdAfter(@Param("caseId") Long caseId, @Param("afterId") Long afterId);
+
+    interface DetectionPoint {
+        Long getId();
+        BigDecimal getLatitude();
+        BigDecimal getLongitude();
+        Double getSimilarityScore();
+        LocalDateTime getDetectedAt();
+    }
+
+    interface DetectionStamp {
+        Long getCount();
+        Long getMaxId();
+    }
 }
@@ -3,8 +3,11 @@ package com.topoom.missingcase.repository;
 import com.topoom.missingcase.entity.CaseFile;
 import com.topoom.missingcase.entity.MissingCase;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +22,15 @@ public interface CaseFileRepository extends JpaRepository<CaseFile, Long> {
     Optional<CaseFile> findByMissingCaseIdAndSourceSeq(Long caseId, Integer sourceSeq);
 
     Optional<CaseFile> findTopByMissingCaseIdOrderBySourceSeqAsc(Long caseId);
+
+    /**
+     * 같은 내용(체크섬)의 가장 오래된 파일
+     */
+    Optional<CaseFile> findFirstByChecksumOrderByIdAsc(String checksum);
+
+    /**
+     * 파일이 하나 이상 연결된 사건 ID 조회
+     */
+    @Query("SELECT DISTINCT cf.missingCase.id FROM CaseFile cf WHERE cf.missingCase.id IN :caseIds")
+    List<Long> findCaseIdsHavingFiles(@Param("caseIds") Collection<Long> caseIds);
 }
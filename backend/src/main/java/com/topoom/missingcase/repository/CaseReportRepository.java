@@ -2,9 +2,64 @@ package com.topoom.missingcase.repository;
 
 import com.topoom.missingcase.entity.CaseReport;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CaseReportRepository extends JpaRepository<CaseReport, Long> {
     List<CaseReport> findByMissingCaseIdOrderBySightedAtDesc(Long caseId);
+
+    /**
+     * 히트맵 초기 적재용 좌표가 있는 제보 (필요한 컬럼만)
+     */
+    @Query("""
+        SELECT r.id AS id, r.latitude AS latitude, r.longitude AS longitude,
+               r.certaintyLevel AS certaintyLevel, r.sightedAt AS sightedAt, r.createdAt AS createdAt
+        FROM CaseReport r
+        WHERE r.missingCase.id = :caseId
+        AND r.latitude IS NOT NULL AND r.longitude IS NOT NULL
+    """)
+    List<ReportPoint> findPointsByCaseId(@Param("caseId") Long caseId);
+
+    /**
+     * 좌표 변환 대기 제보 (목격 장소는 있지만 좌표가 없는 제보, 접수 시각 범위)
+     */
+    @Query("""
+        SELECT r.id AS id, r.sightedLocation AS sightedLocation
+        FROM CaseReport r
+        WHERE r.createdAt >= :from AND r.createdAt < :to
+        AND r.latitude IS NULL AND r.sightedLocation IS NOT NULL
+    """)
+    List<PendingGeocode> findPendingGeocodes(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * 좌표가 아직 없을 때만 좌표 기록 (접수 스레드와 재처리 스윕이 겹쳐도 한 번만 반영)
+     * @return 갱신된 행 수 (0이면 이미 좌표가 있음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE CaseReport r SET r.latitude = :latitude, r.longitude = :longitude
+        WHERE r.id = :id AND r.latitude IS NULL
+    """)
+    int updateCoordinatesIfMissing(@Param("id") Long id,
+                                   @Param("latitude") BigDecimal latitude,
+                                   @Param("longitude") BigDecimal longitude);
+
+    interface PendingGeocode {
+        Long getId();
+        String getSightedLocation();
+    }
+
+    interface ReportPoint {
+        Long getId();
+        BigDecimal getLatitude();
+        BigDecimal getLongitude();
+        CaseReport.CertaintyLevel getCertaintyLevel();
+        LocalDateTime getSightedAt();
+        LocalDateTime getCreatedAt();
+    }
 }
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Repository
 public interface CrosswalkRepository extends JpaRepository<Crosswalk, Long> {
@@ -28,4 +29,34 @@ public interface CrosswalkRepository extends JpaRepository<Crosswalk, Long> {
         @Param("longitude") BigDecimal longitude, 
         @Param("radiusKm") double radiusKm
     );
-}
\ No newline at end of file
+
+    /**
+     * 위경도 사각형(ix_crosswalk_lat_lng 인덱스 범위)으로 후보를 좁힌 뒤 Haversine으로 반경 내 개수 조회
+     * 사각형은 GeoBoundingBox로 반경 원을 포함하도록 계산해서 전달한다.
+     */
+    @Query(value = """
+        SELECT COUNT(*) FROM crosswalk
+        WHERE latitude BETWEEN :minLat AND :maxLat
+        AND longitude BETWEEN :minLng AND :maxLng
+        AND (6371 * acos(
+            cos(radians(:latitude)) * cos(radians(latitude)) *
+            cos(radians(longitude) - radians(:longitude)) +
+            sin(radians(:latitude)) * sin(radians(latitude))
+        )) <= :radiusKm
+        """, nativeQuery = true)
+    int countWithinRadiusInBox(
+        @Param("latitude") BigDecimal latitude,
+        @Param("longitude") BigDecimal longitude,
+        @Param("radiusKm") double radiusKm,
+        @Param("minLat") double minLat,
+        @Param("maxLat") double maxLat,
+        @Param("minLng") double minLng,
+        @Param("maxLng") double maxLng
+    );
+
+    /**
+     * 공간 인덱스 구성을 위한 전체 횡단보도 좌표 조회 ([위도, 경도])
+     */
+    @Query("SELECT c.latitude, c.longitude FROM Crosswalk c WHERE c.latitude IS NOT NULL AND c.longitude IS NOT NULL")
+    List<Object[]> findAllCoordinates();
+}
@@ -3,13 +3,17 @@ package com.topoom.missingcase.repository;
 import com.topoom.missingcase.dto.MissingCaseListResponse;
 import com.topoom.missingcase.dto.MissingCaseStatsResponse;
 import com.topoom.missingcase.entity.MissingCase;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -66,19 +70,271 @@ public interface MissingCaseRepository extends JpaRepository<MissingCase, Long>
     """)
     Optional<MissingCase> findDetailById(@Param("id") Long id);
 
+    /**
+     * 좌표 주변 실종 사건 ID 조회 (가까운 순)
+     * 위경도 사각형(ix_missing_case_lat_lng 인덱스 범위)으로 후보를 좁힌 뒤 Haversine으로 정확히 판정
+     */
+    @Query(value = """
+        SELECT mc.id FROM missing_case mc
+        WHERE mc.is_deleted = false
+        AND mc.latitude BETWEEN :minLat AND :maxLat
+        AND mc.longitude BETWEEN :minLng AND :maxLng
+        AND (6371 * acos(
+            cos(radians(:latitude)) * cos(radians(mc.latitude)) *
+            cos(radians(mc.longitude) - radians(:longitude)) +
+            sin(radians(:latitude)) * sin(radians(mc.latitude))
+        )) <= :radiusKm
+        ORDER BY (6371 * acos(
+            cos(radians(:latitude)) * cos(radians(mc.latitude)) *
+            cos(radians(mc.longitude) - radians(:longitude)) +
+            sin(radians(:latitude)) * sin(radians(mc.latitude))
+        ))
+        """, nativeQuery = true)
+    List<Long> findIdsNearPoint(
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("radiusKm") double radiusKm,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng,
+            @Param("maxLng") double maxLng
+    );
+
+    /**
+     * 목록 첫 페이지 (엔티티 대신 필요한 컬럼만, occurredAt DESC, id DESC)
+     * 정렬/범위 조건은 ix_missing_case_deleted_occurred 인덱스를 탄다.
+     */
+    @Query("""
+        SELECT mc.id AS id, mc.personName AS personName, mc.targetType AS targetType,
+               mc.ageAtTime AS ageAtTime, mc.currentAge AS currentAge, mc.gender AS gender,
+               mc.occurredAt AS occurredAt, mc.occurredLocation AS occurredLocation,
+               mc.latitude AS latitude, mc.longitude AS longitude, mc.crawledAt AS crawledAt,
+               mf.id AS mainFileId, mf.s3Key AS mainFileS3Key
+        FROM MissingCase mc
+        JOIN mc.mainFile mf
+        WHERE mc.isDeleted = false
+        AND mc.personName IS NOT NULL
+        AND mc.targetType IS NOT NULL
+        AND mc.ageAtTime IS NOT NULL
+        AND mc.currentAge IS NOT NULL
+        AND mc.gender IS NOT NULL
+        AND mc.nationality IS NOT NULL
+        AND mc.occurredAt IS NOT NULL
+        AND mc.occurredLocation IS NOT NULL
+        AND mc.latitude IS NOT NULL
+        AND mc.longitude IS NOT NULL
+        AND mc.bodyType IS NOT NULL
+        AND mc.faceShape IS NOT NULL
+        AND mc.hairColor IS NOT NULL
+        AND mc.hairStyle IS NOT NULL
+        ORDER BY mc.occurredAt DESC, mc.id DESC
+    """)
+    List<ListRow> findListRows(Pageable pageable);
+
+    /**
+     * 목록 다음 페이지 (커서 = 이전 페이지 마지막 행의 occurredAt, id)
+     */
+    @Query("""
+        SELECT mc.id AS id, mc.personName AS personName, mc.targetType AS targetType,
+               mc.ageAtTime AS ageAtTime, mc.currentAge AS currentAge, mc.gender AS gender,
+               mc.occurredAt AS occurredAt, mc.occurredLocation AS occurredLocation,
+               mc.latitude AS latitude, mc.longitude AS longitude, mc.crawledAt AS crawledAt,
+               mf.id AS mainFileId, mf.s3Key AS mainFileS3Key
+        FROM MissingCase mc
+        JOIN mc.mainFile mf
+        WHERE (mc.occurredAt < :occurredAt OR (mc.occurredAt = :occurredAt AND mc.id < :id))
+        AND mc.isDeleted = false
+        AND mc.personName IS NOT NULL
+        AND mc.targetType IS NOT NULL
+        AND mc.ageAtTime IS NOT NULL
+        AND mc.currentAge IS NOT NULL
+        AND mc.gender IS NOT NULL
+        AND mc.nationality IS NOT NULL
+        AND mc.occurredAt IS NOT NULL
+        AND mc.occurredLocation IS NOT NULL
+        AND mc.latitude IS NOT NULL
+        AND mc.longitude IS NOT NULL
+        AND mc.bodyType IS NOT NULL
+        AND mc.faceShape IS NOT NULL
+        AND mc.hairColor IS NOT NULL
+        AND mc.hairStyle IS NOT NULL
+        ORDER BY mc.occurredAt DESC, mc.id DESC
+    """)
+    List<ListRow> findListRowsAfter(@Param("occurredAt") LocalDateTime occurredAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+
+    /**
+     * 지정한 사건들의 목록 행 (목록 조건을 만족하지 않는 사건은 빠진다)
+     */
+    @Query("""
+        SELECT mc.id AS id, mc.personName AS personName, mc.targetType AS targetType,
+               mc.ageAtTime AS ageAtTime, mc.currentAge AS currentAge, mc.gender AS gender,
+               mc.occurredAt AS occurredAt, mc.occurredLocation AS occurredLocation,
+               mc.latitude AS latitude, mc.longitude AS longitude, mc.crawledAt AS crawledAt,
+               mf.id AS mainFileId, mf.s3Key AS mainFileS3Key
+        FROM MissingCase mc
+        JOIN mc.mainFile mf
+        WHERE mc.id IN :ids
+        AND mc.isDeleted = false
+        AND mc.personName IS NOT NULL
+        AND mc.targetType IS NOT NULL
+        AND mc.ageAtTime IS NOT NULL
+        AND mc.currentAge IS NOT NULL
+        AND mc.gender IS NOT NULL
+        AND mc.nationality IS NOT NULL
+        AND mc.occurredAt IS NOT NULL
+        AND mc.occurredLocation IS NOT NULL
+        AND mc.latitude IS NOT NULL
+        AND mc.longitude IS NOT NULL
+        AND mc.bodyType IS NOT NULL
+        AND mc.faceShape IS NOT NULL
+        AND mc.hairColor IS NOT NULL
+        AND mc.hairStyle IS NOT NULL
+    """)
+    List<ListRow> findListRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 최근 수집 사건 첫 묶음 (crawledAt DESC, id DESC, 메인 이미지 없는 사건 포함)
+     * 범위/정렬 조건은 ix_missing_case_deleted_crawled 인덱스를 탄다.
+     */
+    @Query("""
+        SELECT mc.id AS id, mc.personName AS personName, mc.targetType AS targetType,
+               mc.ageAtTime AS ageAtTime, mc.currentAge AS currentAge, mc.gender AS gender,
+               mc.occurredAt AS occurredAt, mc.occurredLocation AS occurredLocation,
+               mc.latitude AS latitude, mc.longitude AS longitude, mc.crawledAt AS crawledAt,
+               mf.id AS mainFileId, mf.s3Key AS mainFileS3Key
+        FROM MissingCase mc
+        LEFT JOIN mc.mainFile mf
+        WHERE mc.isDeleted = false
+        AND mc.crawledAt > :since
+        ORDER BY mc.crawledAt DESC, mc.id DESC
+    """)
+    List<ListRow> findRecentListRows(@Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * 최근 수집 사건 다음 묶음 (커서 = 이전 묶음 마지막 행의 crawledAt, id)
+     */
+    @Query("""
+        SELECT mc.id AS id, mc.personName AS personName, mc.targetType AS targetType,
+               mc.ageAtTime AS ageAtTime, mc.currentAge AS currentAge, mc.gender AS gender,
+               mc.occurredAt AS occurredAt, mc.occurredLocation AS occurredLocation,
+               mc.latitude AS latitude, mc.longitude AS longitude, mc.crawledAt AS crawledAt,
+               mf.id AS mainFileId, mf.s3Key AS mainFileS3Key
+        FROM MissingCase mc
+        LEFT JOIN mc.mainFile mf
+        WHERE mc.isDeleted = false
+        AND mc.crawledAt > :since
+        AND (mc.crawledAt < :crawledAt OR (mc.crawledAt = :crawledAt AND mc.id < :id))
+        ORDER BY mc.crawledAt DESC, mc.id DESC
+    """)
+    List<ListRow> findRecentListRowsAfter(@Param("since") LocalDateTime since,
+                                          @Param("crawledAt") LocalDateTime crawledAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    interface ListRow {
+        Long getId();
+        String getPersonName();
+        String getTargetType();
+        Integer getAgeAtTime();
+        Integer getCurrentAge();
+        String getGender();
+        LocalDateTime getOccurredAt();
+        String getOccurredLocation();
+        BigDecimal getLatitude();
+        BigDecimal getLongitude();
+        LocalDateTime getCrawledAt();
+        Long getMainFileId();
+        String getMainFileS3Key();
+    }
+
     Optional<MissingCase> findByMissingId(Integer missingId);
 
-    List<MissingCase> findByIsDeletedFalseAndCrawledAtAfterOrderByCrawledAtDesc(LocalDateTime since);
+    List<MissingCase> findByMissingIdIn(Collection<Integer> missingIds);
+
+    /**
+     * 동기화 변경 감지용 현재 상태 조회 (엔티티 로딩 없이 필요한 컬럼만)
+     */
+    @Query("""
+        SELECT mc.id AS id, mc.missingId AS missingId, mc.sourceFingerprint AS sourceFingerprint,
+               mc.photoChecksum AS photoChecksum, mc.isDeleted AS deleted,
+               mc.occurredLocation AS occurredLocation, mc.latitude AS latitude
+        FROM MissingCase mc
+        WHERE mc.missingId IN :missingIds
+    """)
+    List<SyncSnapshot> findSyncSnapshotsByMissingIdIn(@Param("missingIds") Collection<Integer> missingIds);
+
+    interface SyncSnapshot {
+        Long getId();
+        Integer getMissingId();
+        String getSourceFingerprint();
+        String getPhotoChecksum();
+        Boolean getDeleted();
+        String getOccurredLocation();
+        BigDecimal getLatitude();
+    }
 
     List<MissingCase> findByCrawledAtBefore(LocalDateTime cutoffDate);
 
+    /**
+     * 통계 재계산용 시간대별 집계 (컬럼에 함수를 씌우지 않은 범위 조건이라 인덱스 범위 검색을 탄다)
+     * bucket 형식: yyyyMMddHH
+     */
+    @Query(value = """
+        SELECT DATE_FORMAT(mc.occurred_at, '%Y%m%d%H') AS bucket, COUNT(*) AS total
+        FROM missing_case mc
+        WHERE mc.occurred_at >= :from AND mc.occurred_at < :to
+        GROUP BY bucket
+        """, nativeQuery = true)
+    List<HourlyCount> countCasesByHour(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
     @Query(value = """
-        SELECT
-            (SELECT COUNT(*) FROM missing_case mc1 WHERE DATE(mc1.occurred_at) = CURDATE()) AS totalCases,
-            (SELECT COUNT(*) FROM case_report r WHERE DATE(r.created_at) = CURDATE()) AS totalReports,
-            (SELECT COUNT(*) FROM missing_case mc2 WHERE mc2.is_deleted = TRUE AND DATE(mc2.updated_at) = CURDATE()) AS totalResolved
+        SELECT DATE_FORMAT(r.created_at, '%Y%m%d%H') AS bucket, COUNT(*) AS total
+        FROM case_report r
+        WHERE r.created_at >= :from AND r.created_at < :to
+        GROUP BY bucket
         """, nativeQuery = true)
-    Object getTodayStats();
+    List<HourlyCount> countReportsByHour(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query(value = """
+        SELECT DATE_FORMAT(mc.updated_at, '%Y%m%d%H') AS bucket, COUNT(*) AS total
+        FROM missing_case mc
+        WHERE mc.is_deleted = TRUE
+        AND mc.updated_at >= :from AND mc.updated_at < :to
+        GROUP BY bucket
+        """, nativeQuery = true)
+    List<HourlyCount> countResolvedByHour(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    interface HourlyCount {
+        String getBucket();
+        Long getTotal();
+    }
+
+    @Query("SELECT MAX(mc.id) FROM MissingCase mc")
+    Long findMaxId();
+
+    /**
+     * id 구간에서 crawledAt이 occurredAt과 다른 사건 id (유지보수 작업 CrawledAtBackfillJob용)
+     */
+    @Query("""
+        SELECT mc.id FROM MissingCase mc
+        WHERE mc.id BETWEEN :fromId AND :toId
+        AND mc.occurredAt IS NOT NULL
+        AND (mc.crawledAt IS NULL OR mc.crawledAt <> mc.occurredAt)
+    """)
+    List<Long> findIdsWithStaleCrawledAtBetween(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 지정한 사건들의 crawledAt을 occurredAt으로 맞춤 (유지보수 작업 CrawledAtBackfillJob용 일괄 UPDATE)
+     */
+    @Modifying
+    @Query("""
+        UPDATE MissingCase mc SET mc.crawledAt = mc.occurredAt
+        WHERE mc.id IN :ids
+        AND mc.occurredAt IS NOT NULL
+    """)
+    int updateCrawledAtToOccurredAtIn(@Param("ids") Collection<Long> ids);
 
     // sourceUrl로 MissingCase 조회 (삭제되지 않은 것만)
     Optional<MissingCase> findBySourceUrlAndIsDeletedFalse(String sourceUrl);
@@ -2,11 +2,15 @@ package com.topoom.missingcase.service;
 
 import com.topoom.missingcase.entity.CaseAiSupport;
 import com.topoom.missingcase.entity.MissingCase;
+import com.topoom.missingcase.event.CaseDetailChangedEvent;
 import com.topoom.missingcase.repository.CaseAiSupportRepository;
+import com.topoom.missingcase.repository.MissingCaseRepository;
 import com.topoom.missingcase.service.MovementAnalysisService.MovementAnalysisResult;
 import com.topoom.missingcase.service.PriorityAnalysisService.PriorityAnalysisResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,7 +22,21 @@ public class CaseAiSupportService {
     private final CaseAiSupportRepository caseAiSupportRepository;
     private final MovementAnalysisService movementAnalysisService;
     private final PriorityAnalysisService priorityAnalysisService;
-    
+    private final MissingCaseRepository missingCaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 배회/우선순위 분석을 별도 스레드에서 수행 (대량 동기화 등 호출자를 막지 않기 위함)
+     * 호출자의 트랜잭션이 커밋된 뒤에 호출해야 한다.
+     */
+    @Async
+    @Transactional
+    public void processNewMissingCaseAsync(Long caseId) {
+        missingCaseRepository.findById(caseId).ifPresentOrElse(
+                this::processNewMissingCase,
+                () -> log.warn("AI 분석 대상 MissingCase 없음: {}", caseId));
+    }
+
     /**
      * 새로운 MissingCase에 대한 배회 분석 및 우선순위 분석 수행
      */
@@ -82,6 +100,7 @@ public class CaseAiSupportService {
         }
 
         caseAiSupportRepository.save(aiSupport);
+        eventPublisher.publishEvent(new CaseDetailChangedEvent(missingCase.getId()));
 
         log.info("CaseAiSupport 업데이트 완료 - Case: {}, Speed: {}km/h, Top1: {}, Top2: {}",
                 missingCase.getId(),
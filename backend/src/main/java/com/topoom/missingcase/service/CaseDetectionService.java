@@ -1,26 +1,181 @@
 package com.topoom.missingcase.service;
 
+import com.topoom.common.LruTtlCache;
+import com.topoom.missingcase.dto.CaseDetectionPage;
 import com.topoom.missingcase.dto.CaseDetectionResponse;
 import com.topoom.missingcase.entity.CaseDetection;
+import com.topoom.missingcase.event.CaseDetectionsUpdatedEvent;
 import com.topoom.missingcase.repository.CaseDetectionRepository;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+/**
+ * CCTV 탐지 결과 조회
+ * 사건별로 유사도순/시간순 정렬 결과를 full 이미지 경로까지 계산해 캐시한다.
+ * 탐지 결과는 외부 AI 인물 탐색기가 DB에 직접 기록하므로,
+ * 탐색기의 무효화 요청(CaseDetectionsUpdatedEvent)과 주기적인 (건수, 최대 id) 확인으로 캐시를 맞춘다.
+ * 캐시 한도(max-cached-rows)를 넘는 사건은 캐시하지 않고 인덱스 페이지 조회로 응답한다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class CaseDetectionService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    public enum DetectionSort {
+        SIMILARITY, TIME
+    }
+
     private final CaseDetectionRepository caseDetectionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LruTtlCache<Long, CachedDetections> cache;
+    private final long ttlMillis;
+    private final long verifyAfterMillis;
+    private final int maxCachedRows;
+
+    public CaseDetectionService(CaseDetectionRepository caseDetectionRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${missing-case.detection-cache.max-size:500}") int maxSize,
+                                @Value("${missing-case.detection-cache.ttl-minutes:30}") long ttlMinutes,
+                                @Value("${missing-case.detection-cache.verify-after-ms:30000}") long verifyAfterMillis,
+                                @Value("${missing-case.detection-cache.max-cached-rows:5000}") int maxCachedRows) {
+        this.caseDetectionRepository = caseDetectionRepository;
+        this.eventPublisher = eventPublisher;
+        this.cache = new LruTtlCache<>(maxSize);
+        this.ttlMillis = ttlMinutes * 60_000;
+        this.verifyAfterMillis = verifyAfterMillis;
+        this.maxCachedRows = maxCachedRows;
+    }
+
+    /**
+     * 사건별 정렬된 탐지 결과 (유사도 내림차순, 시간 내림차순)
+     */
+    private record CachedDetections(List<CaseDetectionResponse> bySimilarity,
+                                    List<CaseDetectionResponse> byTime,
+                                    long count,
+                                    Long maxId,
+                                    long verifiedAtMillis) {
 
+        CachedDetections verifiedNow() {
+            return new CachedDetections(bySimilarity, byTime, count, maxId, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 사건의 전체 탐지 결과 (유사도 높은 순)
+     */
     public List<CaseDetectionResponse> getDetection(Long caseId) {
-        return caseDetectionRepository.findByCaseId(caseId)
-                .stream()
+        CachedDetections cached = load(caseId);
+        if (cached != null) {
+            return cached.bySimilarity();
+        }
+        return caseDetectionRepository.findByCaseId(caseId, sortOf(DetectionSort.SIMILARITY)).stream()
                 .map(this::toDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 탐지 결과 페이지
+     */
+    public CaseDetectionPage getDetectionPage(Long caseId, DetectionSort sort, int page, int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하만 가능합니다.");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상이어야 합니다.");
+        }
+
+        CachedDetections cached = load(caseId);
+        List<CaseDetectionResponse> items;
+        long total;
+        if (cached != null) {
+            List<CaseDetectionResponse> sorted = sort == DetectionSort.TIME ? cached.byTime() : cached.bySimilarity();
+            int from = (int) Math.min((long) page * size, sorted.size());
+            items = sorted.subList(from, Math.min(sorted.size(), from + size));
+            total = cached.count();
+        } else {
+            items = caseDetectionRepository.findByCaseId(caseId, PageRequest.of(page, size, sortOf(sort))).stream()
+                    .map(this::toDto)
+                    .collect(Collectors.toList());
+            total = caseDetectionRepository.findStampByCaseId(caseId).getCount();
+        }
+
+        return CaseDetectionPage.builder()
+                .items(items)
+                .page(page)
+                .size(size)
+                .totalCount(total)
+                .hasNext((long) (page + 1) * size < total)
+                .build();
+    }
+
+    /**
+     * AI 인물 탐색기가 탐지 결과를 기록한 뒤 호출 - 캐시 무효화 이벤트 발행
+     */
+    public void notifyDetectionsUpdated(Long caseId) {
+        eventPublisher.publishEvent(new CaseDetectionsUpdatedEvent(caseId));
+    }
+
+    @EventListener
+    public void onDetectionsUpdated(CaseDetectionsUpdatedEvent event) {
+        cache.remove(event.getCaseId());
+    }
+
+    /**
+     * 캐시 조회 (verify-after-ms가 지났으면 건수/최대 id로 변경 여부 확인)
+     * @return 캐시 한도를 넘는 사건이면 null
+     */
+    private CachedDetections load(Long caseId) {
+        CachedDetections cached = cache.get(caseId).orElse(null);
+        if (cached != null && System.currentTimeMillis() - cached.verifiedAtMillis() < verifyAfterMillis) {
+            return cached;
+        }
+
+        CaseDetectionRepository.DetectionStamp stamp = caseDetectionRepository.findStampByCaseId(caseId);
+        long count = stamp.getCount() != null ? stamp.getCount() : 0L;
+        if (cached != null && cached.count() == count && Objects.equals(cached.maxId(), stamp.getMaxId())) {
+            CachedDetections verified = cached.verifiedNow();
+            cache.put(caseId, verified, ttlMillis);
+            return verified;
+        }
+        if (count > maxCachedRows) {
+            cache.remove(caseId);
+            return null;
+        }
+
+        List<CaseDetectionResponse> bySimilarity = caseDetectionRepository
+                .findByCaseId(caseId, sortOf(DetectionSort.SIMILARITY)).stream()
+                .map(this::toDto)
+                .toList();
+        List<CaseDetectionResponse> byTime = bySimilarity.stream()
+                .sorted(Comparator.comparing(CaseDetectionResponse::getDetectedAt, Comparator.reverseOrder())
+                        .thenComparing(CaseDetectionResponse::getId, Comparator.reverseOrder()))
+                .toList();
+        Long maxId = bySimilarity.stream().map(CaseDetectionResponse::getId).max(Long::compare).orElse(null);
+
+        CachedDetections loaded = new CachedDetections(bySimilarity, byTime, bySimilarity.size(), maxId,
+                System.currentTimeMillis());
+        cache.put(caseId, loaded, ttlMillis);
+        log.debug("CCTV 탐지 캐시 적재: caseId={}, {}건", caseId, bySimilarity.size());
+        return loaded;
+    }
+
+    private Sort sortOf(DetectionSort sort) {
+        return sort == DetectionSort.TIME
+                ? Sort.by(Sort.Direction.DESC, "detectedAt", "id")
+                : Sort.by(Sort.Direction.DESC, "similarityScore", "id");
+    }
+
     private CaseDetectionResponse toDto(CaseDetection entity) {
         return CaseDetectionResponse.builder()
                 .id(entity.getId())
@@ -115,6 +115,21 @@ public class CaseOcrService {
                 .doOnError(error -> log.error("OCR API 호출 실패: s3Key={}", s3Key, error));
     }
 
+    /**
+     * OCR 대상 이미지 S3 키 (claim-check 메시지는 키가 없으므로 마지막 이미지를 조회)
+     */
+    public String resolveLastImageS3Key(Long caseId, String s3Key) {
+        if (s3Key != null && !s3Key.isBlank()) {
+            return s3Key;
+        }
+        if (caseId == null) {
+            return null;
+        }
+        return caseFileRepository.findByMissingCaseIdAndIsLastImage(caseId, true)
+                .map(CaseFile::getS3Key)
+                .orElse(null);
+    }
+
     /**
      * OCR 텍스트 처리 및 검증 (큐 방식용)
      * - 전처리, 파싱, 필수값 검증까지 수행
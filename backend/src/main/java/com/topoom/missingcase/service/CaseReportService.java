@@ -1,19 +1,23 @@
 package com.topoom.missingcase.service;
 
-import com.topoom.external.openapi.KakaoClient;
 import com.topoom.missingcase.dto.CaseReportResponse;
 import com.topoom.missingcase.entity.CaseReport;
 import com.topoom.missingcase.entity.MissingCase;
 import com.topoom.missingcase.dto.CaseReportRequest;
+import com.topoom.missingcase.event.CaseReportSavedEvent;
+import com.topoom.missingcase.event.CaseStatsEvent;
 import com.topoom.missingcase.repository.CaseReportRepository;
 import com.topoom.missingcase.repository.MissingCaseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,39 +27,53 @@ public class CaseReportService {
 
     private final CaseReportRepository caseReportRepository;
     private final MissingCaseRepository missingCaseRepository;
-    private final KakaoClient kakaoClient;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 제보 저장 (좌표 없이 즉시 저장, 좌표 변환은 ReportIngestionService가 백그라운드에서 수행)
+     */
     @Transactional
-    public void createReport(CaseReportRequest request) {
+    public CaseReport saveReport(CaseReportRequest request) {
         MissingCase missingCase = missingCaseRepository.findById(request.getCaseId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 실종 사건입니다."));
 
-        BigDecimal latitude = null;
-        BigDecimal longitude = null;
+        CaseReport saved = caseReportRepository.save(toEntity(missingCase, request));
+        eventPublisher.publishEvent(CaseStatsEvent.reportCreated());
+        publishSaved(saved);
+        return saved;
+    }
 
-        if (request.getSightedLocation() != null) {
-            var coordsOpt = kakaoClient.getCoordinates(request.getSightedLocation());
-            if (coordsOpt.isPresent()) {
-                double[] coords = coordsOpt.get();
-                latitude = BigDecimal.valueOf(coords[0]);
-                longitude = BigDecimal.valueOf(coords[1]);
-            } else {
-                log.warn("좌표 변환 실패: {}", request.getSightedLocation());
+    /**
+     * 변환된 좌표 반영 (좌표가 아직 없는 제보만)
+     * @param coordinates 제보 id → [위도, 경도]
+     */
+    @Transactional
+    public void applyCoordinates(Map<Long, double[]> coordinates) {
+        List<Long> updatedIds = new ArrayList<>(coordinates.size());
+        coordinates.forEach((reportId, coords) -> {
+            if (caseReportRepository.updateCoordinatesIfMissing(reportId,
+                    BigDecimal.valueOf(coords[0]), BigDecimal.valueOf(coords[1])) > 0) {
+                updatedIds.add(reportId);
             }
-        }
-        CaseReport report = CaseReport.builder()
+        });
+        caseReportRepository.findAllById(updatedIds).forEach(this::publishSaved);
+    }
+
+    private void publishSaved(CaseReport report) {
+        eventPublisher.publishEvent(new CaseReportSavedEvent(report.getMissingCase().getId(), report.getId(),
+                report.getLatitude(), report.getLongitude(), report.getCertaintyLevel(), report.getSightedAt()));
+    }
+
+    private CaseReport toEntity(MissingCase missingCase, CaseReportRequest request) {
+        return CaseReport.builder()
                 .missingCase(missingCase)
                 .certaintyLevel(request.getCertaintyLevel())
                 .sightedAt(request.getSightedAt())
                 .sightedLocation(request.getSightedLocation())
-                .latitude(latitude)
-                .longitude(longitude)
                 .additionalInfo(request.getAdditionalInfo())
                 .reporterName(request.getReporterName())
                 .reporterContact(request.getReporterContact())
                 .build();
-
-        caseReportRepository.save(report);
     }
 
     @Transactional(readOnly = true)
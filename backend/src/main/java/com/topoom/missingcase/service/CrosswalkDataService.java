@@ -2,6 +2,7 @@ package com.topoom.missingcase.service;
 
 import com.topoom.missingcase.dto.CrosswalkApiResponse;
 import com.topoom.missingcase.entity.Crosswalk;
+import com.topoom.missingcase.event.CrosswalkDataImportedEvent;
 import com.topoom.missingcase.repository.CrosswalkRepository;
 import com.topoom.missingcase.util.CoordinateConverter;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +33,7 @@ public class CrosswalkDataService {
 
     private final CrosswalkRepository crosswalkRepository;
     private final WebClient.Builder webClientBuilder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${openapi.crosswalk.service-key}")
     private String serviceKey;
@@ -55,6 +58,7 @@ public class CrosswalkDataService {
 
             if (!crosswalks.isEmpty()) {
                 crosswalkRepository.saveAll(crosswalks);
+                eventPublisher.publishEvent(new CrosswalkDataImportedEvent(crosswalks.size()));
                 log.info("엑셀 파일에서 횡단보도 데이터 {}건 저장 완료", crosswalks.size());
                 return crosswalks.size();
             }
@@ -220,6 +224,7 @@ public class CrosswalkDataService {
             List<Crosswalk> crosswalks = convertToEntities(response);
             if (!crosswalks.isEmpty()) {
                 crosswalkRepository.saveAll(crosswalks);
+                eventPublisher.publishEvent(new CrosswalkDataImportedEvent(crosswalks.size()));
                 log.info("횡단보도 데이터 {}건 저장 완료", crosswalks.size());
                 return crosswalks.size();
             }
@@ -293,6 +298,10 @@ public class CrosswalkDataService {
             }
         }
 
+        if (totalSaved > 0) {
+            eventPublisher.publishEvent(new CrosswalkDataImportedEvent(totalSaved));
+        }
+
         log.info("전체 횡단보도 데이터 수집 완료 - 총 {}건 저장", totalSaved);
         return totalSaved;
     }
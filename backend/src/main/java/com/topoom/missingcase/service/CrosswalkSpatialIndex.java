@@ -0,0 +1,86 @@
+package com.topoom.missingcase.service;
+
+import com.topoom.missingcase.event.CrosswalkDataImportedEvent;
+import com.topoom.missingcase.repository.CrosswalkRepository;
+import com.topoom.missingcase.util.GeoBoundingBox;
+import com.topoom.missingcase.util.GeoKdTree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 횡단보도 좌표 인메모리 공간 인덱스
+ * 애플리케이션 시작 시 전체 좌표를 k-d 트리로 적재하고, 횡단보도 데이터가 새로 적재되면 재구성한다.
+ * 반경 내 개수 조회를 DB 전체 스캔 대신 메모리에서 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrosswalkSpatialIndex {
+
+    private final CrosswalkRepository crosswalkRepository;
+
+    // 재구성 시 통째로 교체되는 불변 스냅샷
+    private volatile GeoKdTree tree;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * 횡단보도 데이터 적재 트랜잭션 커밋 후 인덱스 재구성
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCrosswalkDataImported(CrosswalkDataImportedEvent event) {
+        log.info("횡단보도 데이터 {}건 적재 감지 - 공간 인덱스 재구성", event.getSavedCount());
+        refresh();
+    }
+
+    /**
+     * DB에서 전체 좌표를 읽어 인덱스를 새로 구성
+     * 실패 시 기존 인덱스를 유지한다.
+     */
+    public synchronized void refresh() {
+        long start = System.currentTimeMillis();
+        try {
+            List<Object[]> rows = crosswalkRepository.findAllCoordinates();
+            double[] latitudes = new double[rows.size()];
+            double[] longitudes = new double[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                Object[] row = rows.get(i);
+                latitudes[i] = ((BigDecimal) row[0]).doubleValue();
+                longitudes[i] = ((BigDecimal) row[1]).doubleValue();
+            }
+            this.tree = new GeoKdTree(latitudes, longitudes);
+            log.info("✅ 횡단보도 공간 인덱스 구성 완료: {}건, {}ms", rows.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("❌ 횡단보도 공간 인덱스 구성 실패 - DB 조회로 대체합니다.", e);
+        }
+    }
+
+    public boolean isLoaded() {
+        return tree != null;
+    }
+
+    /**
+     * 반경 내 횡단보도 개수 (CrosswalkRepository#countWithinRadius와 동일한 결과)
+     * 인덱스가 아직 구성되지 않았으면 사각형 범위 조건을 붙인 DB 쿼리로 대체한다.
+     */
+    public int countWithinRadius(BigDecimal latitude, BigDecimal longitude, double radiusKm) {
+        GeoKdTree snapshot = tree;
+        if (snapshot == null) {
+            GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radiusKm);
+            return crosswalkRepository.countWithinRadiusInBox(latitude, longitude, radiusKm,
+                    box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude());
+        }
+        return snapshot.countWithinRadius(latitude.doubleValue(), longitude.doubleValue(), radiusKm);
+    }
+}
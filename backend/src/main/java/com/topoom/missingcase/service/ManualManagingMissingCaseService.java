@@ -1,12 +1,20 @@
 package com.topoom.missingcase.service;
 
 import com.topoom.missingcase.entity.ManualManagingMissingCase;
+import com.topoom.missingcase.entity.MissingCase;
 import com.topoom.missingcase.repository.ManualManagingMissingCaseRepository;
+import com.topoom.missingcase.repository.MissingCaseRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -14,6 +22,7 @@ import java.util.List;
 public class ManualManagingMissingCaseService {
 
     private final ManualManagingMissingCaseRepository repository;
+    private final MissingCaseRepository missingCaseRepository;
 
     /**
      * 수기 관리 중인 케이스 목록 전체 조회 (is_deleted = false만)
@@ -37,4 +46,34 @@ public class ManualManagingMissingCaseService {
     public ManualManagingMissingCase save(ManualManagingMissingCase manualCase) {
         return repository.save(manualCase);
     }
+
+    /**
+     * DLQ 영구 실패 케이스 일괄 저장
+     * - 사건 발생/수집 시각을 MissingCase에서 채우고 is_manual_managed를 true로 설정
+     */
+    @Transactional
+    public void recordFailures(List<ManualManagingMissingCase> failures) {
+        Set<Long> caseIds = failures.stream()
+                .map(ManualManagingMissingCase::getMissingCaseId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, MissingCase> cases = missingCaseRepository.findAllById(caseIds).stream()
+                .collect(Collectors.toMap(MissingCase::getId, Function.identity()));
+
+        for (ManualManagingMissingCase failure : failures) {
+            MissingCase missingCase = cases.get(failure.getMissingCaseId());
+            if (missingCase != null) {
+                failure.setOccurredAt(missingCase.getOccurredAt());
+                failure.setCrawledAt(missingCase.getCrawledAt());
+                if (failure.getSourceTitle() == null) {
+                    failure.setSourceTitle(missingCase.getSourceTitle()); // claim-check 메시지에는 제목이 없음
+                }
+                missingCase.setManualManaged(true);
+            }
+            if (failure.getCrawledAt() == null) {
+                failure.setCrawledAt(LocalDateTime.now());
+            }
+        }
+        repository.saveAll(failures);
+    }
 }
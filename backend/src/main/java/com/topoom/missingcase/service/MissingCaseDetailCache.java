@@ -0,0 +1,94 @@
+package com.topoom.missingcase.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.topoom.common.ApiResponse;
+import com.topoom.common.HashUtils;
+import com.topoom.common.LruTtlCache;
+import com.topoom.missingcase.event.CaseDetailChangedEvent;
+import com.topoom.missingcase.event.MissingCaseChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사건 상세 응답 캐시 (GET /api/v1/missing/{id})
+ * ApiResponse로 감싼 상세 응답을 JSON 바이트와 ETag로 보관해, 캐시 적중 시 DB 조회와 직렬화 없이 응답한다.
+ * 사건 변경(MissingCaseChangedEvent), 파일/AI 분석 변경(CaseDetailChangedEvent) 커밋 후 해당 사건을 무효화한다.
+ */
+@Slf4j
+@Component
+public class MissingCaseDetailCache {
+
+    private final MissingCaseService missingCaseService;
+    private final ObjectMapper objectMapper;
+    private final LruTtlCache<Long, CachedDetail> cache;
+    private final long ttlMillis;
+
+    // 무효화가 일어날 때마다 증가 - 조회 도중 무효화된 결과는 캐시에 넣지 않는다
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public MissingCaseDetailCache(MissingCaseService missingCaseService,
+                                  ObjectMapper objectMapper,
+                                  @Value("${missing-case.detail-cache.max-size:2000}") int maxSize,
+                                  @Value("${missing-case.detail-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.missingCaseService = missingCaseService;
+        this.objectMapper = objectMapper;
+        this.cache = new LruTtlCache<>(maxSize);
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 직렬화된 상세 응답
+     */
+    public record CachedDetail(byte[] json, String etag) {
+    }
+
+    /**
+     * 상세 응답 조회 (없으면 DB에서 만들어 캐시)
+     * @throws IllegalArgumentException 존재하지 않는 사건
+     */
+    public CachedDetail get(Long caseId) {
+        CachedDetail cached = cache.get(caseId).orElse(null);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = invalidations.get();
+        CachedDetail loaded = render(caseId);
+        if (stamp == invalidations.get()) {
+            cache.put(caseId, loaded, ttlMillis);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMissingCaseChanged(MissingCaseChangedEvent event) {
+        if (event.getCaseIds() != null) {
+            invalidations.incrementAndGet();
+            event.getCaseIds().forEach(cache::remove);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaseDetailChanged(CaseDetailChangedEvent event) {
+        if (event.getCaseId() != null) {
+            invalidations.incrementAndGet();
+            cache.remove(event.getCaseId());
+        }
+    }
+
+    private CachedDetail render(Long caseId) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success(missingCaseService.getCaseDetail(caseId)));
+            String etag = "\"" + HashUtils.sha256Hex(json).substring(0, 32) + "\"";
+            return new CachedDetail(json, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상세 응답 직렬화 실패: caseId=" + caseId, e);
+        }
+    }
+}
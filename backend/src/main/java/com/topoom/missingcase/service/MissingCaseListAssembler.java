@@ -0,0 +1,64 @@
+package com.topoom.missingcase.service;
+
+import com.topoom.missingcase.dto.MissingCaseListResponse;
+import com.topoom.missingcase.repository.CaseContactRepository;
+import com.topoom.missingcase.repository.MissingCaseRepository.ListRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 목록 projection 행 → MissingCaseListResponse 변환
+ * 전화번호는 행 묶음 단위로 IN 쿼리 한 번(1000건씩)에 가져온다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MissingCaseListAssembler {
+
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final CaseContactRepository caseContactRepository;
+
+    public List<MissingCaseListResponse> assemble(List<ListRow> rows) {
+        Map<Long, List<String>> phoneNumbers = new HashMap<>();
+        for (int from = 0; from < rows.size(); from += IN_CHUNK_SIZE) {
+            List<Long> ids = rows.subList(from, Math.min(rows.size(), from + IN_CHUNK_SIZE)).stream()
+                    .map(ListRow::getId)
+                    .toList();
+            for (CaseContactRepository.CasePhoneNumber contact : caseContactRepository.findPhoneNumbersByCaseIdIn(ids)) {
+                phoneNumbers.computeIfAbsent(contact.getCaseId(), k -> new ArrayList<>()).add(contact.getPhoneNumber());
+            }
+        }
+
+        List<MissingCaseListResponse> items = new ArrayList<>(rows.size());
+        for (ListRow row : rows) {
+            items.add(toDto(row, phoneNumbers.getOrDefault(row.getId(), List.of())));
+        }
+        return items;
+    }
+
+    private MissingCaseListResponse toDto(ListRow row, List<String> phoneNumbers) {
+        return MissingCaseListResponse.builder()
+                .id(row.getId())
+                .personName(row.getPersonName())
+                .targetType(row.getTargetType())
+                .ageAtTime(row.getAgeAtTime())
+                .currentAge(row.getCurrentAge())
+                .gender(row.getGender())
+                .occurredAt(row.getOccurredAt())
+                .occurredLocation(row.getOccurredLocation())
+                .latitude(row.getLatitude())
+                .longitude(row.getLongitude())
+                .crawledAt(row.getCrawledAt())
+                .phoneNumber(phoneNumbers)
+                .mainImage(row.getMainFileId() == null ? null : MissingCaseListResponse.MainImage.builder()
+                        .fileId(row.getMainFileId())
+                        .url("https://cdn.back2poom.site/" + row.getMainFileS3Key())
+                        .build())
+                .build();
+    }
+}
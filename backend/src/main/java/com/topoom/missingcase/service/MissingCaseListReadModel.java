@@ -0,0 +1,131 @@
+package com.topoom.missingcase.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.topoom.common.ApiResponse;
+import com.topoom.common.HashUtils;
+import com.topoom.missingcase.dto.MissingCaseListResponse;
+import com.topoom.missingcase.event.MissingCaseChangedEvent;
+import com.topoom.missingcase.repository.MissingCaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실종 사건 목록 읽기 모델 (GET /api/v1/missing)
+ * 목록 응답(ApiResponse 포함)을 미리 JSON 바이트로 직렬화해 메모리에 두고 ETag와 함께 제공한다.
+ * 사건 변경 이벤트(MissingCaseChangedEvent)가 오면 해당 사건만 다시 읽어 스냅샷을 교체하며,
+ * 이벤트를 거치지 않은 변경에 대비해 주기적으로 전체를 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissingCaseListReadModel {
+
+    private static final Comparator<MissingCaseListResponse> LIST_ORDER =
+            Comparator.comparing(MissingCaseListResponse::getOccurredAt, Comparator.reverseOrder())
+                    .thenComparing(MissingCaseListResponse::getId, Comparator.reverseOrder());
+
+    private final MissingCaseRepository missingCaseRepository;
+    private final MissingCaseListAssembler missingCaseListAssembler;
+    private final ObjectMapper objectMapper;
+
+    // 갱신 시 통째로 교체되는 불변 스냅샷
+    private volatile Snapshot snapshot;
+
+    /**
+     * 직렬화된 목록 응답
+     */
+    public record Snapshot(Map<Long, MissingCaseListResponse> rowsById,
+                           List<MissingCaseListResponse> rows,
+                           byte[] json,
+                           String etag) {
+    }
+
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재구성 (이벤트 누락 대비)
+     */
+    @Scheduled(fixedDelayString = "${missing-case.read-model.full-rebuild-ms:600000}",
+            initialDelayString = "${missing-case.read-model.full-rebuild-ms:600000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            List<MissingCaseListResponse> rows =
+                    missingCaseListAssembler.assemble(missingCaseRepository.findListRows(Pageable.unpaged()));
+            Map<Long, MissingCaseListResponse> rowsById = new HashMap<>();
+            rows.forEach(row -> rowsById.put(row.getId(), row));
+            publish(rowsById, rows);
+            log.info("✅ 실종 사건 목록 읽기 모델 구성: {}건, {}ms", rows.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("❌ 실종 사건 목록 읽기 모델 구성 실패 - 기존 스냅샷 유지", e);
+        }
+    }
+
+    /**
+     * 변경된 사건만 다시 읽어 반영 (커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMissingCaseChanged(MissingCaseChangedEvent event) {
+        if (event.getCaseIds() == null || event.getCaseIds().isEmpty()) {
+            return;
+        }
+        if (snapshot == null) {
+            rebuild();
+            return;
+        }
+        try {
+            apply(event.getCaseIds());
+        } catch (Exception e) {
+            log.error("❌ 목록 읽기 모델 반영 실패 (caseIds={}) - 전체 재구성", event.getCaseIds(), e);
+            rebuild();
+        }
+    }
+
+    private synchronized void apply(Collection<Long> caseIds) throws JsonProcessingException {
+        Map<Long, MissingCaseListResponse> rowsById = new HashMap<>(snapshot.rowsById());
+        caseIds.forEach(rowsById::remove);
+        for (MissingCaseListResponse row :
+                missingCaseListAssembler.assemble(missingCaseRepository.findListRowsByIdIn(caseIds))) {
+            rowsById.put(row.getId(), row);
+        }
+
+        List<MissingCaseListResponse> rows = new ArrayList<>(rowsById.values());
+        rows.sort(LIST_ORDER);
+        publish(rowsById, rows);
+        log.debug("목록 읽기 모델 반영: 변경 {}건, 전체 {}건", caseIds.size(), rows.size());
+    }
+
+    private void publish(Map<Long, MissingCaseListResponse> rowsById, List<MissingCaseListResponse> rows)
+            throws JsonProcessingException {
+        byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success(rows));
+        String etag = "\"" + HashUtils.sha256Hex(json).substring(0, 32) + "\"";
+        this.snapshot = new Snapshot(Map.copyOf(rowsById), List.copyOf(rows), json, etag);
+    }
+}
@@ -1,23 +1,33 @@
 package com.topoom.missingcase.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.topoom.missingcase.entity.CaseContact;
 import com.topoom.missingcase.entity.CaseFile;
 import com.topoom.missingcase.entity.MissingCase;
+import com.topoom.missingcase.dto.MissingCaseCursorPage;
 import com.topoom.missingcase.dto.MissingCaseDetailResponse;
 import com.topoom.missingcase.dto.MissingCaseListResponse;
-import com.topoom.missingcase.dto.MissingCaseStatsResponse;
 import com.topoom.missingcase.repository.CaseFileRepository;
 import com.topoom.missingcase.repository.MissingCaseRepository;
+import com.topoom.missingcase.util.GeoBoundingBox;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,49 +37,109 @@ public class MissingCaseService {
 
     private final MissingCaseRepository missingCaseRepository;
     private final CaseFileRepository caseFileRepository;
+    private final MissingCaseListAssembler missingCaseListAssembler;
     private final CaseAiSupportService caseAiSupportService;
     private final ObjectMapper objectMapper;
 
+    private static final double MAX_NEARBY_RADIUS_KM = 50.0;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int RECENT_CHUNK_SIZE = 500;
+
+    @Value("${missing-case.recent.max-hours:720}")
+    private int maxRecentHours;
+
     private String generateFileUrl(String s3Key) {
         return "https://cdn.back2poom.site/" + s3Key;
     }
 
-    public List<MissingCaseListResponse> getAllCases() {
-        return missingCaseRepository.findAllWithMainFile().stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-    }
+    /**
+     * 실종 사건 목록 커서 페이지 (occurredAt DESC, id DESC)
+     * 필요한 컬럼만 조회하고 전화번호는 페이지 단위로 한 번에 가져오므로(MissingCaseListAssembler),
+     * 요청당 쿼리 수와 메모리는 페이지 크기에만 비례한다.
+     */
+    public MissingCaseCursorPage getCasesPage(String cursor, int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하만 가능합니다.");
+        }
 
-    private MissingCaseListResponse toDto(MissingCase mc) {
-        MissingCaseListResponse.MainImage mainImage = null;
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<MissingCaseRepository.ListRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = missingCaseRepository.findListRows(limit);
+        } else {
+            PageCursor decoded = PageCursor.decode(cursor);
+            rows = missingCaseRepository.findListRowsAfter(decoded.occurredAt(), decoded.id(), limit);
+        }
 
-        CaseFile file = mc.getMainFile();
-        if (file != null && file.getId() != null) {
-            mainImage = MissingCaseListResponse.MainImage.builder()
-                    .fileId(file.getId())
-                    .url(generateFileUrl(file.getS3Key()))
-                    .build();
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
         }
 
-        return MissingCaseListResponse.builder()
-                .id(mc.getId())
-                .personName(mc.getPersonName())
-                .targetType(mc.getTargetType())
-                .ageAtTime(mc.getAgeAtTime())
-                .currentAge(mc.getCurrentAge())
-                .gender(mc.getGender())
-                .occurredAt(mc.getOccurredAt())
-                .occurredLocation(mc.getOccurredLocation())
-                .latitude(mc.getLatitude())
-                .longitude(mc.getLongitude())
-                .crawledAt(mc.getCrawledAt())
-                .phoneNumber(mc.getContacts().stream()
-                        .map(CaseContact::getPhoneNumber)
-                        .toList())
-                .mainImage(mainImage)
+        List<MissingCaseListResponse> items = missingCaseListAssembler.assemble(rows);
+
+        String nextCursor = null;
+        if (hasNext) {
+            MissingCaseRepository.ListRow last = rows.get(rows.size() - 1);
+            nextCursor = new PageCursor(last.getOccurredAt(), last.getId()).encode();
+        }
+
+        return MissingCaseCursorPage.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
                 .build();
     }
 
+    /**
+     * 목록 커서: 마지막 행의 (occurredAt, id)를 URL-safe Base64로 인코딩
+     */
+    private record PageCursor(LocalDateTime occurredAt, Long id) {
+
+        String encode() {
+            String raw = occurredAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static PageCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.lastIndexOf('|');
+                return new PageCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+    }
+
+    /**
+     * 좌표 주변 실종 사건 조회 (가까운 순)
+     */
+    public List<MissingCaseListResponse> getCasesNear(double latitude, double longitude, double radiusKm) {
+        if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new IllegalArgumentException("반경은 0km 초과 " + MAX_NEARBY_RADIUS_KM + "km 이하만 가능합니다.");
+        }
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("잘못된 좌표입니다.");
+        }
+
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radiusKm);
+        List<Long> ids = missingCaseRepository.findIdsNearPoint(latitude, longitude, radiusKm,
+                box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // 거리순 정렬 유지
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            order.put(ids.get(i), i);
+        }
+        List<MissingCaseRepository.ListRow> rows = missingCaseRepository.findListRowsByIdIn(ids).stream()
+                .sorted(Comparator.comparing(row -> order.get(row.getId())))
+                .toList();
+        return missingCaseListAssembler.assemble(rows);
+    }
 
     @Transactional(readOnly = true)
     public MissingCaseDetailResponse getCaseDetail(Long id) {
@@ -188,43 +258,42 @@ public class MissingCaseService {
         }
     }
 
-    public MissingCaseStatsResponse getStats() {
-        Object result = missingCaseRepository.getTodayStats();
-        Object[] row = (Object[]) result;
-
-        Long totalCases = ((Number) row[0]).longValue();
-        Long totalReports = ((Number) row[1]).longValue();
-        Long totalResolved = ((Number) row[2]).longValue();
-
-        return new MissingCaseStatsResponse(totalCases, totalReports, totalResolved);
-    }
-
-    public List<MissingCaseListResponse> getRecentCases(int hours) {
-        LocalDateTime since = LocalDateTime.now().minusHours(hours);
-
-        return missingCaseRepository.findByIsDeletedFalseAndCrawledAtAfterOrderByCrawledAtDesc(since)
-                .stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-    }
-
     /**
-     * 초기 데이터용: 모든 MissingCase의 crawled_at을 occurred_at으로 일괄 업데이트
-     * 최초 한 번만 실행하는 일회성 메서드
+     * 최근 hours 시간 내 수집된 사건을 ApiResponse JSON으로 스트리밍 (crawledAt DESC, id DESC)
+     * (crawledAt, id) 키셋으로 RECENT_CHUNK_SIZE건씩 읽어 바로 쓰므로 메모리는 묶음 크기에만 비례하고,
+     * 응답 쓰기는 MVC 비동기 스레드에서 수행되어 요청 스레드를 잡지 않는다.
      */
-    @Transactional
-    public int updateCrawledAtToOccurredAt() {
-        List<MissingCase> allCases = missingCaseRepository.findAll();
-        int updatedCount = 0;
-
-        for (MissingCase missingCase : allCases) {
-            if (missingCase.getOccurredAt() != null) {
-                missingCase.setCrawledAt(missingCase.getOccurredAt());
-                updatedCount++;
-            }
+    public StreamingResponseBody streamRecentCases(int hours) {
+        if (hours <= 0 || hours > maxRecentHours) {
+            throw new IllegalArgumentException("조회 시간은 1 이상 " + maxRecentHours + " 이하만 가능합니다.");
         }
+        LocalDateTime since = LocalDateTime.now().minusHours(hours);
 
-        return updatedCount;
+        return out -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeBooleanField("success", true);
+                generator.writeStringField("message", "Success");
+                generator.writeArrayFieldStart("data");
+
+                Pageable chunk = PageRequest.of(0, RECENT_CHUNK_SIZE);
+                List<MissingCaseRepository.ListRow> rows = missingCaseRepository.findRecentListRows(since, chunk);
+                while (!rows.isEmpty()) {
+                    for (MissingCaseListResponse item : missingCaseListAssembler.assemble(rows)) {
+                        generator.writeObject(item);
+                    }
+                    generator.flush();
+                    if (rows.size() < RECENT_CHUNK_SIZE) {
+                        break;
+                    }
+                    MissingCaseRepository.ListRow last = rows.get(rows.size() - 1);
+                    rows = missingCaseRepository.findRecentListRowsAfter(since, last.getCrawledAt(), last.getId(), chunk);
+                }
+
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
     }
 
     /**
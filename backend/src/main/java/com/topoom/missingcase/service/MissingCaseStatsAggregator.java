@@ -0,0 +1,188 @@
+package com.topoom.missingcase.service;
+
+import com.topoom.missingcase.dto.MissingCaseStatsPoint;
+import com.topoom.missingcase.dto.MissingCaseStatsResponse;
+import com.topoom.missingcase.event.CaseStatsEvent;
+import com.topoom.missingcase.repository.MissingCaseRepository;
+import com.topoom.missingcase.repository.MissingCaseRepository.HourlyCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 실종 사건 통계 롤링 집계 (GET /api/v1/missing/stats, /stats/series)
+ * 최근 window-days 동안의 시간대별 카운터(사건 발생/제보 등록/해결)를 메모리에 두고,
+ * 통계 이벤트(CaseStatsEvent)로 즉시 증감한 뒤 주기적으로 DB 범위 집계로 다시 맞춘다.
+ * 이벤트가 없는 경로(블로그 OCR로 발생일이 채워지는 사건 등)는 다음 재계산 때 반영된다.
+ * "오늘"과 시간 구간은 JVM 기본 시간대로 자른다. 이벤트 시각과 DB의 created_at/updated_at도 같은 시간대로
+ * 기록되므로 서로 맞물린다 (배포 이미지는 Dockerfile의 TZ=Asia/Seoul).
+ */
+@Slf4j
+@Component
+public class MissingCaseStatsAggregator {
+
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    public enum Granularity {
+        HOURLY, DAILY
+    }
+
+    private final MissingCaseRepository missingCaseRepository;
+    private final int windowDays;
+
+    // 시간 시작 시각 -> [CASES, REPORTS, RESOLVED]
+    private volatile NavigableMap<LocalDateTime, AtomicLongArray> buckets = new ConcurrentSkipListMap<>();
+    private volatile boolean loaded;
+
+    // 재계산 중 들어온 이벤트 (교체 직후 새 카운터에 다시 적용), 재계산 중이 아니면 null
+    private final Object eventLock = new Object();
+    private List<CaseStatsEvent> pendingEvents;
+
+    public MissingCaseStatsAggregator(MissingCaseRepository missingCaseRepository,
+                                      @Value("${missing-case.stats.window-days:7}") int windowDays) {
+        this.missingCaseRepository = missingCaseRepository;
+        this.windowDays = Math.max(1, windowDays);
+    }
+
+    /**
+     * 오늘 통계 (오늘 0시부터의 시간대 합)
+     */
+    public MissingCaseStatsResponse today() {
+        ensureLoaded();
+        long[] sum = sum(buckets.tailMap(LocalDateTime.now().truncatedTo(ChronoUnit.DAYS), true));
+        return new MissingCaseStatsResponse(sum[0], sum[1], sum[2]);
+    }
+
+    /**
+     * 시간/일 단위 시계열 (집계 구간 전체, 오래된 순, 빈 구간은 0)
+     */
+    public List<MissingCaseStatsPoint> series(Granularity granularity) {
+        ensureLoaded();
+        ChronoUnit unit = granularity == Granularity.DAILY ? ChronoUnit.DAYS : ChronoUnit.HOURS;
+        LocalDateTime end = LocalDateTime.now().truncatedTo(unit).plus(1, unit);
+        LocalDateTime start = windowStart().truncatedTo(unit);
+
+        NavigableMap<LocalDateTime, AtomicLongArray> current = buckets;
+        List<MissingCaseStatsPoint> points = new ArrayList<>();
+        for (LocalDateTime t = start; t.isBefore(end); t = t.plus(1, unit)) {
+            long[] sum = sum(current.subMap(t, true, t.plus(1, unit), false));
+            points.add(new MissingCaseStatsPoint(t, sum[0], sum[1], sum[2]));
+        }
+        return points;
+    }
+
+    /**
+     * 재계산 중에는 이벤트를 기록해 두었다가 새 카운터로 교체할 때 다시 적용한다.
+     * (DB 집계에 이미 포함된 이벤트는 한 번 더 더해질 수 있지만, 다음 재계산에서 바로잡힌다)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatsEvent(CaseStatsEvent event) {
+        if (event.getAt() == null || event.getAt().isBefore(windowStart())) {
+            return;
+        }
+        synchronized (eventLock) {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            if (loaded) {
+                apply(buckets, event);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * DB 범위 집계로 카운터 재계산 (이벤트 누락/중복 보정, 오래된 구간 정리)
+     */
+    @Scheduled(fixedDelayString = "${missing-case.stats.reconcile-ms:300000}",
+            initialDelayString = "${missing-case.stats.reconcile-ms:300000}")
+    public synchronized void reconcile() {
+        long start = System.currentTimeMillis();
+        synchronized (eventLock) {
+            pendingEvents = new ArrayList<>();
+        }
+        try {
+            LocalDateTime from = windowStart();
+            LocalDateTime to = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1);
+
+            NavigableMap<LocalDateTime, AtomicLongArray> fresh = new ConcurrentSkipListMap<>();
+            fill(fresh, CaseStatsEvent.Metric.CASES, missingCaseRepository.countCasesByHour(from, to));
+            fill(fresh, CaseStatsEvent.Metric.REPORTS, missingCaseRepository.countReportsByHour(from, to));
+            fill(fresh, CaseStatsEvent.Metric.RESOLVED, missingCaseRepository.countResolvedByHour(from, to));
+
+            int replayed;
+            synchronized (eventLock) {
+                replayed = pendingEvents.size();
+                for (CaseStatsEvent event : pendingEvents) {
+                    if (!event.getAt().isBefore(from)) {
+                        apply(fresh, event);
+                    }
+                }
+                buckets = fresh;
+                loaded = true;
+            }
+            log.debug("통계 재계산 완료: {}개 구간, 재적용 이벤트 {}건, {}ms",
+                    fresh.size(), replayed, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("❌ 통계 재계산 실패 - 기존 카운터 유지", e);
+        } finally {
+            synchronized (eventLock) {
+                pendingEvents = null;
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            reconcile();
+        }
+    }
+
+    private LocalDateTime windowStart() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(windowDays - 1L);
+    }
+
+    private static void apply(Map<LocalDateTime, AtomicLongArray> target, CaseStatsEvent event) {
+        target.computeIfAbsent(event.getAt().truncatedTo(ChronoUnit.HOURS), k -> new AtomicLongArray(3))
+                .addAndGet(event.getMetric().ordinal(), event.getDelta());
+    }
+
+    private void fill(Map<LocalDateTime, AtomicLongArray> target, CaseStatsEvent.Metric metric, List<HourlyCount> rows) {
+        for (HourlyCount row : rows) {
+            if (row.getBucket() == null) {
+                continue;
+            }
+            LocalDateTime hour = LocalDateTime.parse(row.getBucket(), BUCKET_FORMAT);
+            target.computeIfAbsent(hour, k -> new AtomicLongArray(3)).addAndGet(metric.ordinal(), row.getTotal());
+        }
+    }
+
+    private static long[] sum(Map<LocalDateTime, AtomicLongArray> range) {
+        long[] sum = new long[3];
+        for (AtomicLongArray counts : range.values()) {
+            for (int i = 0; i < 3; i++) {
+                sum[i] += counts.get(i);
+            }
+        }
+        return sum;
+    }
+}
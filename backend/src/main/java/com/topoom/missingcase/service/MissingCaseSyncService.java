@@ -1,138 +1,480 @@
 package com.topoom.missingcase.service;
 
+import com.topoom.common.HashUtils;
 import com.topoom.external.blog.service.S3ImageUploadService;
 import com.topoom.external.openapi.KakaoClient;
 import com.topoom.external.openapi.Safe182Client;
 import com.topoom.missingcase.entity.CaseFile;
 import com.topoom.missingcase.entity.MissingCase;
 import com.topoom.missingcase.dto.Safe182Response;
+import com.topoom.missingcase.event.CaseStatsEvent;
+import com.topoom.missingcase.event.MissingCaseChangedEvent;
 import com.topoom.missingcase.repository.CaseFileRepository;
 import com.topoom.missingcase.repository.MissingCaseRepository;
-import lombok.RequiredArgsConstructor;
+import com.topoom.missingcase.repository.MissingCaseRepository.SyncSnapshot;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+/**
+ * Safe182 API 데이터를 DB로 동기화
+ * 단계별 파이프라인으로 처리하여 외부 호출 동안 DB 트랜잭션을 잡고 있지 않는다.
+ * 1. 목록 조회 및 삭제 처리 (별도 트랜잭션)
+ * 2. 항목 지문(fingerprint)과 사진 체크섬으로 변경 감지 - 변경 없는 항목은 건너뜀
+ * 3. 주소가 바뀌었거나 좌표가 없는 항목만 좌표 변환 병렬 수행 (Kakao 레이트 리미터 적용)
+ * 4. 청크 단위 트랜잭션으로 변경된 MissingCase 저장 (기존 사건은 ID 집합으로 일괄 조회)
+ * 5. 바이트가 달라진 사진만 S3 업로드 병렬 수행 후 청크 단위로 CaseFile/메인 이미지 저장
+ * 6. 신규 사건 AI 분석은 비동기로 요청
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional
 public class MissingCaseSyncService {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final LocalDateTime OLD_CASE_CUTOFF = LocalDateTime.of(2021, 5, 22, 0, 0);
+
     private final Safe182Client safe182Client;
     private final KakaoClient kakaoClient;
     private final MissingCaseRepository missingCaseRepository;
     private final CaseFileRepository caseFileRepository;
     private final S3ImageUploadService s3ImageUploadService;
     private final CaseAiSupportService caseAiSupportService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int workers;
+    private final int chunkSize;
+
+    public MissingCaseSyncService(Safe182Client safe182Client,
+                                  KakaoClient kakaoClient,
+                                  MissingCaseRepository missingCaseRepository,
+                                  CaseFileRepository caseFileRepository,
+                                  S3ImageUploadService s3ImageUploadService,
+                                  CaseAiSupportService caseAiSupportService,
+                                  PlatformTransactionManager transactionManager,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${safe182.sync.workers:8}") int workers,
+                                  @Value("${safe182.sync.chunk-size:100}") int chunkSize) {
+        this.safe182Client = safe182Client;
+        this.kakaoClient = kakaoClient;
+        this.missingCaseRepository = missingCaseRepository;
+        this.caseFileRepository = caseFileRepository;
+        this.s3ImageUploadService = s3ImageUploadService;
+        this.caseAiSupportService = caseAiSupportService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.workers = Math.max(1, workers);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
 
     /**
      * Safe182 API 데이터를 DB로 동기화
      */
     public void syncMissing(int rowSize) {
+        long start = System.currentTimeMillis();
         Safe182Response response = safe182Client.getMissing(rowSize);
 
         if (response == null || response.getList() == null) {
             return;
         }
 
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyyMMdd");
+        // missingId 기준 중복 제거 (같은 ID가 여러 번 오면 마지막 항목 사용)
+        Map<Integer, Safe182Response.Safe182Item> itemsById = new LinkedHashMap<>();
+        for (Safe182Response.Safe182Item item : response.getList()) {
+            if (item.getMsspsnIdntfccd() != null) {
+                itemsById.put(item.getMsspsnIdntfccd(), item);
+            }
+        }
+
+        // 이번 동기화에서 내용이 바뀐 사건 (목록 읽기 모델 갱신용)
+        Set<Long> changedCaseIds = new HashSet<>(markRemovedCases(itemsById.keySet()));
+
+        Map<Integer, SyncSnapshot> snapshots = loadSnapshots(itemsById.keySet());
+        Map<Integer, String> fingerprints = new HashMap<>();
+        List<Safe182Response.Safe182Item> changedItems = new ArrayList<>();
+        List<Safe182Response.Safe182Item> geocodeTargets = new ArrayList<>();
+        for (Safe182Response.Safe182Item item : itemsById.values()) {
+            String fingerprint = fingerprint(item);
+            fingerprints.put(item.getMsspsnIdntfccd(), fingerprint);
+
+            SyncSnapshot snapshot = snapshots.get(item.getMsspsnIdntfccd());
+            if (isUnchanged(snapshot, item, fingerprint)) {
+                continue;
+            }
+            changedItems.add(item);
+            if (needsGeocoding(snapshot, item)) {
+                geocodeTargets.add(item);
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            Map<String, double[]> coordinates = geocodeAddresses(geocodeTargets, executor);
+
+            List<SyncedCase> synced = new ArrayList<>();
+            for (List<Safe182Response.Safe182Item> chunk : partition(changedItems)) {
+                synced.addAll(saveChunk(chunk, coordinates, fingerprints));
+            }
+
+            synced.forEach(s -> changedCaseIds.add(s.caseId()));
+            int uploaded = syncPhotos(itemsById, snapshots, synced, executor, changedCaseIds);
+
+            // 모든 청크가 커밋된 후 신규 사건 AI 분석 요청
+            synced.stream()
+                    .filter(SyncedCase::isNew)
+                    .forEach(s -> {
+                        try {
+                            caseAiSupportService.processNewMissingCaseAsync(s.caseId());
+                        } catch (Exception e) {
+                            log.error("AI 분석 트리거 실패 (missingId={}): {}", s.missingId(), e.getMessage());
+                        }
+                    });
+
+            log.info("✅ Safe182 동기화 완료 - 대상: {}건, 변경 없음: {}건, 저장: {}건, 신규: {}건, 좌표 변환: {}건, 사진 업로드: {}건, {}ms",
+                    itemsById.size(), itemsById.size() - changedItems.size(), synced.size(),
+                    synced.stream().filter(SyncedCase::isNew).count(), geocodeTargets.size(),
+                    uploaded, System.currentTimeMillis() - start);
+        } finally {
+            executor.shutdownNow();
+            if (!changedCaseIds.isEmpty()) {
+                eventPublisher.publishEvent(new MissingCaseChangedEvent(Set.copyOf(changedCaseIds)));
+            }
+        }
+    }
+
+    private Map<Integer, SyncSnapshot> loadSnapshots(Set<Integer> missingIds) {
+        Map<Integer, SyncSnapshot> snapshots = new HashMap<>();
+        for (List<Integer> chunk : partition(new ArrayList<>(missingIds))) {
+            for (SyncSnapshot snapshot : missingCaseRepository.findSyncSnapshotsByMissingIdIn(chunk)) {
+                snapshots.putIfAbsent(snapshot.getMissingId(), snapshot);
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * 지문이 같고, 삭제 상태가 아니며, 좌표 변환이 필요 없는 항목은 변경 없음으로 판단
+     */
+    private boolean isUnchanged(SyncSnapshot snapshot, Safe182Response.Safe182Item item, String fingerprint) {
+        return snapshot != null
+                && fingerprint.equals(snapshot.getSourceFingerprint())
+                && !Boolean.TRUE.equals(snapshot.getDeleted())
+                && !needsGeocoding(snapshot, item);
+    }
+
+    /**
+     * 신규 사건이거나, 주소가 바뀌었거나, 좌표가 없는 경우에만 좌표 변환
+     */
+    private boolean needsGeocoding(SyncSnapshot snapshot, Safe182Response.Safe182Item item) {
+        String address = item.getOccrAdres();
+        if (address == null || address.isBlank()) {
+            return false;
+        }
+        return snapshot == null
+                || snapshot.getLatitude() == null
+                || !normalize(address).equals(normalize(snapshot.getOccurredLocation()));
+    }
+
+    private String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Safe182 항목 지문 (순번 rnum과 사진 필드는 제외)
+     */
+    static String fingerprint(Safe182Response.Safe182Item item) {
+        String joined = String.join("\u001F",
+                String.valueOf(item.getMsspsnIdntfccd()),
+                String.valueOf(item.getOccrde()),
+                String.valueOf(item.getAlldressingDscd()),
+                String.valueOf(item.getAgeNow()),
+                String.valueOf(item.getAge()),
+                String.valueOf(item.getWritngTrgetDscd()),
+                String.valueOf(item.getSexdstnDscd()),
+                String.valueOf(item.getOccrAdres()),
+                String.valueOf(item.getNm()),
+                String.valueOf(item.getNltyDscd()),
+                String.valueOf(item.getHeight()),
+                String.valueOf(item.getBdwgh()),
+                String.valueOf(item.getFrmDscd()),
+                String.valueOf(item.getFaceshpeDscd()),
+                String.valueOf(item.getHairshpeDscd()),
+                String.valueOf(item.getHaircolrDscd()));
+        return HashUtils.sha256Hex(joined);
+    }
+
+    /**
+     * 목록에서 사라진 과거 사건 삭제 처리 (별도 트랜잭션)
+     * @return 삭제 처리된 사건 ID
+     */
+    private Set<Long> markRemovedCases(Set<Integer> currentIds) {
+        Set<Long> removed = new HashSet<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<MissingCase> oldCases = missingCaseRepository.findByCrawledAtBefore(OLD_CASE_CUTOFF);
+
+            for (MissingCase existing : oldCases) {
+                if (!currentIds.contains(existing.getMissingId()) && !existing.isDeleted()) {
+                    existing.setDeleted(true);
+                    removed.add(existing.getId());
+                    eventPublisher.publishEvent(CaseStatsEvent.resolved());
+                    log.info("삭제된 실종자 처리(API): {}", existing.getMissingId());
+                }
+            }
+        });
+        return removed;
+    }
+
+    /**
+     * 주소별 좌표 변환 병렬 수행 (동일 주소는 한 번만 조회)
+     */
+    private Map<String, double[]> geocodeAddresses(Collection<Safe182Response.Safe182Item> items, ExecutorService executor) {
+        Map<String, Future<Optional<double[]>>> futures = new LinkedHashMap<>();
+        for (Safe182Response.Safe182Item item : items) {
+            String address = item.getOccrAdres();
+            if (address != null && !address.isBlank() && !futures.containsKey(address)) {
+                futures.put(address, executor.submit(() -> kakaoClient.getCoordinates(address)));
+            }
+        }
+
+        Map<String, double[]> coordinates = new HashMap<>();
+        futures.forEach((address, future) -> {
+            try {
+                future.get().ifPresent(coords -> {
+                    log.info("좌표 변환 성공 [{}]: {}, {}", address, coords[0], coords[1]);
+                    coordinates.put(address, coords);
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("좌표 변환 실패 [{}]: {}", address, e.getMessage());
+            }
+        });
+        return coordinates;
+    }
+
+    /**
+     * 청크 단위 저장 (한 트랜잭션)
+     * 청크 저장이 실패하면 항목별 트랜잭션으로 다시 시도하여 실패 항목만 건너뛴다.
+     */
+    private List<SyncedCase> saveChunk(List<Safe182Response.Safe182Item> chunk,
+                                       Map<String, double[]> coordinates,
+                                       Map<Integer, String> fingerprints) {
+        try {
+            return transactionTemplate.execute(status -> upsertCases(chunk, coordinates, fingerprints));
+        } catch (Exception e) {
+            log.warn("청크 저장 실패, 항목별로 재시도: {}", e.getMessage());
+            List<SyncedCase> result = new ArrayList<>();
+            for (Safe182Response.Safe182Item item : chunk) {
+                try {
+                    result.addAll(transactionTemplate.execute(status -> upsertCases(List.of(item), coordinates, fingerprints)));
+                } catch (Exception itemError) {
+                    log.error("실종자 정보 저장/업데이트 중 오류 발생 (missingId={}): {}",
+                            item.getMsspsnIdntfccd(), itemError.getMessage(), itemError);
+                }
+            }
+            return result;
+        }
+    }
 
-        Set<Integer> currentIds = response.getList().stream()
+    private List<SyncedCase> upsertCases(List<Safe182Response.Safe182Item> items,
+                                         Map<String, double[]> coordinates,
+                                         Map<Integer, String> fingerprints) {
+        Set<Integer> ids = items.stream()
                 .map(Safe182Response.Safe182Item::getMsspsnIdntfccd)
-                .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
+        Map<Integer, MissingCase> existingById = missingCaseRepository.findByMissingIdIn(ids).stream()
+                .collect(Collectors.toMap(MissingCase::getMissingId, mc -> mc, (a, b) -> a));
+
+        List<MissingCase> toSave = new ArrayList<>(items.size());
+        List<Boolean> newFlags = new ArrayList<>(items.size());
+        for (Safe182Response.Safe182Item item : items) {
+            MissingCase existing = existingById.get(item.getMsspsnIdntfccd());
+            MissingCase missingCase = existing != null ? existing : new MissingCase();
+            applyItem(missingCase, item, coordinates.get(item.getOccrAdres()));
+            missingCase.setSourceFingerprint(fingerprints.get(item.getMsspsnIdntfccd()));
+            toSave.add(missingCase);
+            newFlags.add(existing == null);
+        }
 
-        LocalDateTime cutoffDate = LocalDateTime.of(2021, 5, 22, 0, 0);
-        List<MissingCase> oldCases = missingCaseRepository.findByCrawledAtBefore(cutoffDate);
+        List<MissingCase> saved = missingCaseRepository.saveAll(toSave);
 
-        for (MissingCase existing : oldCases) {
-            if (!currentIds.contains(existing.getMissingId()) && !existing.isDeleted()) {
-                existing.setDeleted(true);
-                log.info("삭제된 실종자 처리(API): {}", existing.getMissingId());
+        List<SyncedCase> result = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            MissingCase mc = saved.get(i);
+            result.add(new SyncedCase(mc.getId(), mc.getMissingId(), newFlags.get(i)));
+            if (newFlags.get(i)) {
+                // 청크 트랜잭션 안에서 발행 - 롤백된 청크의 신규 사건은 집계되지 않는다
+                eventPublisher.publishEvent(CaseStatsEvent.caseCreated(mc.getOccurredAt()));
             }
         }
+        return result;
+    }
 
-        for (Safe182Response.Safe182Item item : response.getList()) {
+    private void applyItem(MissingCase missingCase, Safe182Response.Safe182Item item, double[] coords) {
+        missingCase.setMissingId(item.getMsspsnIdntfccd());
+        missingCase.setPersonName(item.getNm());
+        missingCase.setGender(item.getSexdstnDscd());
+        missingCase.setNationality(item.getNltyDscd());
+        if (item.getAge() != null) missingCase.setAgeAtTime(item.getAge());
+        if (item.getAgeNow() != null) missingCase.setCurrentAge(item.getAgeNow());
+        missingCase.setOccurredLocation(item.getOccrAdres());
+
+        if (item.getOccrde() != null && item.getOccrde().matches("\\d{8}")) {
+            LocalDate date = LocalDate.parse(item.getOccrde(), DATE_FORMATTER);
+            missingCase.setOccurredAt(date.atStartOfDay());
+            missingCase.setCrawledAt(date.atStartOfDay());
+        } else {
+            missingCase.setOccurredAt(null);
+        }
+        if (coords != null) {
+            missingCase.setLatitude(BigDecimal.valueOf(coords[0]));
+            missingCase.setLongitude(BigDecimal.valueOf(coords[1]));
+        }
+        missingCase.setHeightCm(item.getHeight());
+        missingCase.setWeightKg(item.getBdwgh());
+        missingCase.setHairColor(item.getHaircolrDscd());
+        missingCase.setFaceShape(item.getFaceshpeDscd());
+        missingCase.setBodyType(item.getFrmDscd());
+        missingCase.setHairStyle(item.getHairshpeDscd());
+        missingCase.setClothingDesc(item.getAlldressingDscd());
+        missingCase.setTargetType(mapTargetType(item.getWritngTrgetDscd()));
+
+        missingCase.setSourceTitle("실종경보 Open Api");
+        missingCase.setSourceUrl("https://www.safe182.go.kr");
+        missingCase.setDeleted(false);
+    }
+
+    /**
+     * 사진 동기화
+     * - 사진 바이트의 체크섬이 저장된 값과 같으면 건너뜀
+     * - 체크섬이 처음 기록되는 기존 사건은 이미 이미지가 있으면 체크섬만 기록 (재업로드 없음)
+     * - 바이트가 달라진 사진만 병렬로 S3 업로드 후, 새 파일을 메인 이미지로 교체하고 이전 메인 이미지는 soft delete
+     * @param changedCaseIds 메인 이미지가 바뀐 사건 ID를 추가할 집합
+     * @return 업로드된 사진 수
+     */
+    private int syncPhotos(Map<Integer, Safe182Response.Safe182Item> itemsById,
+                           Map<Integer, SyncSnapshot> snapshots,
+                           List<SyncedCase> synced,
+                           ExecutorService executor,
+                           Set<Long> changedCaseIds) {
+        Map<Integer, Long> caseIdByMissingId = new HashMap<>();
+        snapshots.forEach((missingId, snapshot) -> caseIdByMissingId.put(missingId, snapshot.getId()));
+        synced.forEach(s -> caseIdByMissingId.put(s.missingId(), s.caseId()));
+
+        List<PhotoTask> tasks = new ArrayList<>();
+        for (Safe182Response.Safe182Item item : itemsById.values()) {
+            String photo = item.getTknphotoFile();
+            Long caseId = caseIdByMissingId.get(item.getMsspsnIdntfccd());
+            if (photo == null || photo.isEmpty() || caseId == null) {
+                continue;
+            }
+            String base64 = photo.replaceAll("\\s+", "");
+            String checksum;
             try {
-                Optional<MissingCase> existingCase = missingCaseRepository.findByMissingId(item.getMsspsnIdntfccd());
-                MissingCase missingCase = existingCase.orElseGet(MissingCase::new);
-                boolean isNewCase = !existingCase.isPresent();
-
-                missingCase.setMissingId(item.getMsspsnIdntfccd());
-                missingCase.setPersonName(item.getNm());
-                missingCase.setGender(item.getSexdstnDscd());
-                missingCase.setNationality(item.getNltyDscd());
-                if (item.getAge() != null) missingCase.setAgeAtTime(item.getAge());
-                if (item.getAgeNow() != null) missingCase.setCurrentAge(item.getAgeNow());
-                missingCase.setOccurredLocation(item.getOccrAdres());
-
-                if (item.getOccrde() != null && item.getOccrde().matches("\\d{8}")) {
-                    LocalDate date = LocalDate.parse(item.getOccrde(), dateFormatter);
-                    missingCase.setOccurredAt(date.atStartOfDay());
-                    missingCase.setCrawledAt(date.atStartOfDay());
-                } else {
-                    missingCase.setOccurredAt(null);
-                }
-                kakaoClient.getCoordinates(item.getOccrAdres())
-                        .ifPresent(coords -> {
-                            log.info("좌표 변환 성공 [{}]: {}, {}", item.getOccrAdres(), coords[0], coords[1]);
-                            missingCase.setLatitude(BigDecimal.valueOf(coords[0]));
-                            missingCase.setLongitude(BigDecimal.valueOf(coords[1]));
-                        });
-                missingCase.setHeightCm(item.getHeight());
-                missingCase.setWeightKg(item.getBdwgh());
-                missingCase.setHairColor(item.getHaircolrDscd());
-                missingCase.setFaceShape(item.getFaceshpeDscd());
-                missingCase.setBodyType(item.getFrmDscd());
-                missingCase.setHairStyle(item.getHairshpeDscd());
-                missingCase.setClothingDesc(item.getAlldressingDscd());
-                missingCase.setTargetType(mapTargetType(item.getWritngTrgetDscd()));
-                missingCase.setHeightCm(item.getHeight());
-                missingCase.setWeightKg(item.getBdwgh());
-
-                missingCase.setSourceTitle("실종경보 Open Api");
-                missingCase.setSourceUrl("https://www.safe182.go.kr");
-                missingCase.setDeleted(false);
-
-                MissingCase savedCase = missingCaseRepository.save(missingCase);
-
-                if (item.getTknphotoFile() != null && !item.getTknphotoFile().isEmpty()) {
-                    try {
-                        CaseFile file = s3ImageUploadService.uploadBase64Image(item.getTknphotoFile().replaceAll("\\s+", ""), savedCase.getId());
-                        log.info("S3 업로드 완료: {}", savedCase.getId());
-                        caseFileRepository.save(file);
-                        savedCase.setMainFile(file);
-                        missingCaseRepository.save(savedCase);
+                checksum = HashUtils.sha256Hex(Base64.getDecoder().decode(base64));
+            } catch (IllegalArgumentException e) {
+                log.warn("사진 Base64 디코딩 실패 (missingId={})", item.getMsspsnIdntfccd());
+                continue;
+            }
+            SyncSnapshot snapshot = snapshots.get(item.getMsspsnIdntfccd());
+            String storedChecksum = snapshot != null ? snapshot.getPhotoChecksum() : null;
+            if (checksum.equals(storedChecksum)) {
+                continue;
+            }
+            tasks.add(new PhotoTask(caseId, base64, checksum, storedChecksum != null));
+        }
+        if (tasks.isEmpty()) {
+            return 0;
+        }
 
-                    } catch (Exception e) {
-                        log.error("이미지 업로드 실패 (missingId={}): {}", savedCase.getMissingId(), e.getMessage());
-                    }
-                }
+        // 체크섬이 없던 기존 사건 중 이미지가 이미 있는 경우는 체크섬만 기록
+        Set<Long> casesWithFiles = new HashSet<>();
+        List<Long> unknownChecksumCaseIds = tasks.stream()
+                .filter(t -> !t.replacing())
+                .map(PhotoTask::caseId)
+                .toList();
+        for (List<Long> chunk : partition(unknownChecksumCaseIds)) {
+            casesWithFiles.addAll(caseFileRepository.findCaseIdsHavingFiles(chunk));
+        }
 
-                // 새로운 케이스인 경우 AI 분석 수행 (배회 분석 + 우선순위 분석)
-                if (isNewCase) {
-                    try {
-                        caseAiSupportService.processNewMissingCase(savedCase);
-                        log.info("새로운 실종 케이스 AI 분석 트리거 완료: {}", savedCase.getId());
-                    } catch (Exception e) {
-                        log.error("AI 분석 트리거 실패 (missingId={}): {}", savedCase.getMissingId(), e.getMessage());
-                    }
-                }
+        List<PhotoTask> backfills = new ArrayList<>();
+        Map<PhotoTask, Future<CaseFile>> uploads = new LinkedHashMap<>();
+        for (PhotoTask task : tasks) {
+            if (!task.replacing() && casesWithFiles.contains(task.caseId())) {
+                backfills.add(task);
+                continue;
+            }
+            uploads.put(task, executor.submit(() -> s3ImageUploadService.uploadBase64Object(task.base64(), task.caseId())));
+        }
+
+        for (List<PhotoTask> chunk : partition(backfills)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> chunk.forEach(task ->
+                        missingCaseRepository.getReferenceById(task.caseId()).setPhotoChecksum(task.checksum())));
+            } catch (Exception e) {
+                log.error("사진 체크섬 기록 실패 ({}건): {}", chunk.size(), e.getMessage(), e);
+            }
+        }
+
+        List<Map.Entry<PhotoTask, CaseFile>> uploadedFiles = new ArrayList<>();
+        uploads.forEach((task, future) -> {
+            try {
+                uploadedFiles.add(Map.entry(task, future.get()));
+                log.info("S3 업로드 완료: {}", task.caseId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("이미지 업로드 실패 (caseId={}): {}", task.caseId(), e.getMessage());
+            }
+        });
 
+        AtomicInteger saved = new AtomicInteger();
+        for (List<Map.Entry<PhotoTask, CaseFile>> chunk : partition(uploadedFiles)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Map.Entry<PhotoTask, CaseFile> entry : chunk) {
+                        PhotoTask task = entry.getKey();
+                        MissingCase missingCase = missingCaseRepository.getReferenceById(task.caseId());
+                        CaseFile previousMain = missingCase.getMainFile();
+                        if (task.replacing() && previousMain != null && previousMain.getPurpose() == CaseFile.Purpose.SAFE) {
+                            previousMain.softDelete();
+                        }
+
+                        CaseFile file = entry.getValue();
+                        file.setMissingCase(missingCase);
+                        caseFileRepository.save(file);
+                        missingCase.setMainFile(file);
+                        missingCase.setPhotoChecksum(task.checksum());
+                    }
+                });
+                saved.addAndGet(chunk.size());
+                chunk.forEach(entry -> changedCaseIds.add(entry.getKey().caseId()));
             } catch (Exception e) {
-                log.error("실종자 정보 저장/업데이트 중 오류 발생: {}", e.getMessage(), e);
+                log.error("CaseFile 저장 실패 ({}건): {}", chunk.size(), e.getMessage(), e);
             }
         }
+        return saved.get();
+    }
+
+    private <T> List<List<T>> partition(List<T> list) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += chunkSize) {
+            chunks.add(list.subList(i, Math.min(i + chunkSize, list.size())));
+        }
+        return chunks;
     }
 
     private String mapTargetType(String writngTrgetDscd) {
@@ -152,4 +494,10 @@ public class MissingCaseSyncService {
                 return "기타";
         }
     }
+
+    private record SyncedCase(Long caseId, Integer missingId, boolean isNew) {
+    }
+
+    private record PhotoTask(Long caseId, String base64, String checksum, boolean replacing) {
+    }
 }
@@ -0,0 +1,158 @@
+package com.topoom.missingcase.service;
+
+import com.topoom.missingcase.dto.MissingCaseListResponse;
+import com.topoom.missingcase.dto.MissingCaseTileResponse;
+import com.topoom.missingcase.util.WebMercatorTiles;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 지도 타일 조회용 공간 인덱스 (GET /api/v1/missing/tiles/{z}/{x}/{y})
+ * 목록 읽기 모델의 스냅샷을 Morton 코드 순으로 정렬해 두고, 타일 조회는 이진 탐색 두 번으로 구간을 찾는다.
+ * 조회 비용과 응답 크기는 전체 사건 수가 아니라 타일 안의 사건 수(묶음이면 묶음 수)에 비례한다.
+ */
+@Slf4j
+@Component
+public class MissingCaseTileIndex {
+
+    private final MissingCaseListReadModel missingCaseListReadModel;
+    private final int clusterMaxZoom;
+    private final int clusterGridBits;
+    private final int minClusterTotal;
+
+    // 마지막으로 인덱싱한 스냅샷과 그 인덱스
+    private volatile Index index;
+
+    public MissingCaseTileIndex(MissingCaseListReadModel missingCaseListReadModel,
+                                @Value("${missing-case.tiles.cluster-max-zoom:14}") int clusterMaxZoom,
+                                @Value("${missing-case.tiles.cluster-grid-bits:3}") int clusterGridBits,
+                                @Value("${missing-case.tiles.min-cluster-total:50}") int minClusterTotal) {
+        this.missingCaseListReadModel = missingCaseListReadModel;
+        this.clusterMaxZoom = clusterMaxZoom;
+        this.clusterGridBits = Math.max(0, clusterGridBits);
+        this.minClusterTotal = minClusterTotal;
+    }
+
+    private record Index(MissingCaseListReadModel.Snapshot source,
+                         long[] codes,
+                         MissingCaseListResponse[] cases) {
+    }
+
+    public MissingCaseTileResponse getTile(int z, int x, int y) {
+        WebMercatorTiles.validate(z, x, y);
+        Index current = currentIndex();
+
+        int from = lowerBound(current.codes(), WebMercatorTiles.rangeStart(z, x, y));
+        int to = lowerBound(current.codes(), WebMercatorTiles.rangeEnd(z, x, y));
+        int total = to - from;
+
+        MissingCaseTileResponse.MissingCaseTileResponseBuilder response = MissingCaseTileResponse.builder()
+                .z(z).x(x).y(y).totalCount(total);
+
+        // 높은 줌이거나 사건이 적으면 개별 사건 (목록 정렬 순서 유지)
+        if (z >= clusterMaxZoom || total <= minClusterTotal) {
+            List<MissingCaseListResponse> cases = new ArrayList<>(Arrays.asList(current.cases()).subList(from, to));
+            cases.sort(Comparator.comparing(MissingCaseListResponse::getOccurredAt, Comparator.reverseOrder())
+                    .thenComparing(MissingCaseListResponse::getId, Comparator.reverseOrder()));
+            return response.clusters(List.of()).cases(cases).build();
+        }
+        return response.clusters(cluster(current, from, to, Math.min(WebMercatorTiles.MAX_ZOOM, z + clusterGridBits)))
+                .cases(List.of())
+                .build();
+    }
+
+    /**
+     * 하위 격자 타일(cellZoom) 단위로 묶기 - 같은 격자의 점은 코드 배열에서 연속이므로 한 번 훑으면 된다.
+     */
+    private List<MissingCaseTileResponse.Cluster> cluster(Index current, int from, int to, int cellZoom) {
+        List<MissingCaseTileResponse.Cluster> clusters = new ArrayList<>();
+        int i = from;
+        while (i < to) {
+            long cell = WebMercatorTiles.codeAtZoom(current.codes()[i], cellZoom);
+            double latSum = 0;
+            double lngSum = 0;
+            int count = 0;
+            int start = i;
+            while (i < to && WebMercatorTiles.codeAtZoom(current.codes()[i], cellZoom) == cell) {
+                MissingCaseListResponse c = current.cases()[i];
+                latSum += c.getLatitude().doubleValue();
+                lngSum += c.getLongitude().doubleValue();
+                count++;
+                i++;
+            }
+            clusters.add(MissingCaseTileResponse.Cluster.builder()
+                    .latitude(latSum / count)
+                    .longitude(lngSum / count)
+                    .count(count)
+                    .caseId(count == 1 ? current.cases()[start].getId() : null)
+                    .build());
+        }
+        return clusters;
+    }
+
+    /**
+     * 읽기 모델 스냅샷이 바뀌었으면 다시 인덱싱 (스냅샷은 불변이므로 참조 비교로 충분)
+     */
+    private Index currentIndex() {
+        MissingCaseListReadModel.Snapshot snapshot = missingCaseListReadModel.current();
+        Index current = index;
+        if (current != null && current.source() == snapshot) {
+            return current;
+        }
+        synchronized (this) {
+            current = index;
+            if (current == null || current.source() != snapshot) {
+                current = build(snapshot);
+                index = current;
+            }
+        }
+        return current;
+    }
+
+    private Index build(MissingCaseListReadModel.Snapshot snapshot) {
+        List<MissingCaseListResponse> located = snapshot.rows().stream()
+                .filter(c -> c.getLatitude() != null && c.getLongitude() != null)
+                .toList();
+        int n = located.size();
+        long[] rawCodes = new long[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            MissingCaseListResponse c = located.get(i);
+            rawCodes[i] = WebMercatorTiles.pointCode(c.getLatitude().doubleValue(), c.getLongitude().doubleValue());
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> rawCodes[i]));
+
+        long[] codes = new long[n];
+        MissingCaseListResponse[] cases = new MissingCaseListResponse[n];
+        for (int i = 0; i < n; i++) {
+            codes[i] = rawCodes[order[i]];
+            cases[i] = located.get(order[i]);
+        }
+        log.debug("지도 타일 인덱스 구성: {}건", n);
+        return new Index(snapshot, codes, cases);
+    }
+
+    /**
+     * key 이상인 첫 위치
+     */
+    private static int lowerBound(long[] codes, long key) {
+        int lo = 0;
+        int hi = codes.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (codes[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -4,10 +4,12 @@ import com.topoom.external.openapi.KakaoClient;
 import com.topoom.messaging.exception.CoordinateConversionException;
 import com.topoom.missingcase.entity.CaseFile;
 import com.topoom.missingcase.entity.MissingCase;
+import com.topoom.missingcase.event.MissingCaseChangedEvent;
 import com.topoom.missingcase.repository.CaseFileRepository;
 import com.topoom.missingcase.repository.MissingCaseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +33,7 @@ public class MissingCaseUpdateService {
     private final CaseFileRepository caseFileRepository;
     private final KakaoClient kakaoClient;
     private final org.springframework.transaction.PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * OCR 데이터만 업데이트 (OcrConsumer에서 호출)
@@ -44,6 +47,7 @@ public class MissingCaseUpdateService {
 
         updateFromOcrData(missingCase, parsedOcrData);
         missingCaseRepository.save(missingCase);
+        eventPublisher.publishEvent(MissingCaseChangedEvent.of(caseId));
 
         log.info("💾 OCR 데이터 DB 저장 완료: caseId={}, personName={}, age={}, gender={}",
             caseId, missingCase.getPersonName(), missingCase.getCurrentAge(), missingCase.getGender());
@@ -72,6 +76,7 @@ public class MissingCaseUpdateService {
 
         // 5. 최종 저장 (좌표 포함)
         missingCaseRepository.save(missingCase);
+        eventPublisher.publishEvent(MissingCaseChangedEvent.of(caseId));
 
         log.info("✅ MissingCase 최종 업데이트 완료: caseId={}, personName={}, location={}, lat={}, lng={}",
             caseId, missingCase.getPersonName(), missingCase.getOccurredLocation(),
@@ -237,8 +242,13 @@ public class MissingCaseUpdateService {
             MissingCase missingCase = missingCaseRepository.findById(caseId)
                 .orElseThrow(() -> new RuntimeException("MissingCase를 찾을 수 없습니다: " + caseId));
 
+            boolean changed = missingCase.getMainFile() == null;
             setMainImage(missingCase);
             missingCaseRepository.save(missingCase);
+            if (changed && missingCase.getMainFile() != null) {
+                // 이 트랜잭션 커밋 후 조회 캐시 갱신 (이후 검증이 실패해도 메인 이미지 변경은 이미 반영됨)
+                eventPublisher.publishEvent(MissingCaseChangedEvent.of(caseId));
+            }
 
             log.info("💾 메인 이미지 저장 완료 (별도 트랜잭션): caseId={}, mainFileId={}",
                 caseId, missingCase.getMainFile() != null ? missingCase.getMainFile().getId() : "없음");
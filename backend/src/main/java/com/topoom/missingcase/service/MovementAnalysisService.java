@@ -2,7 +2,6 @@ package com.topoom.missingcase.service;
 
 import com.topoom.external.openapi.KakaoClient;
 import com.topoom.missingcase.entity.MissingCase;
-import com.topoom.missingcase.repository.CrosswalkRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,7 +15,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class MovementAnalysisService {
 
-    private final CrosswalkRepository crosswalkRepository;
+    private final CrosswalkSpatialIndex crosswalkSpatialIndex;
     private final KakaoClient kakaoClient;
 
     public static class MovementAnalysisResult {
@@ -162,7 +161,7 @@ public class MovementAnalysisService {
     }
 
     /**
-     * 200m 반경 내 횡단보도/교차로 개수 조회 (Haversine 공식 사용)
+     * 200m 반경 내 횡단보도/교차로 개수 조회 (Haversine 공식, 인메모리 공간 인덱스 사용)
      */
     private int countNearbyCrosswalks(BigDecimal latitude, BigDecimal longitude) {
         if (latitude == null || longitude == null) {
@@ -172,7 +171,7 @@ public class MovementAnalysisService {
         // Haversine 공식으로 정확한 200m 반경 계산
         double radiusKm = 0.2; // 200m = 0.2km
         
-        return crosswalkRepository.countWithinRadius(latitude, longitude, radiusKm);
+        return crosswalkSpatialIndex.countWithinRadius(latitude, longitude, radiusKm);
     }
 
     /**
@@ -0,0 +1,199 @@
+package com.topoom.missingcase.service;
+
+import com.topoom.external.openapi.KakaoClient;
+import com.topoom.missingcase.dto.CaseReportRequest;
+import com.topoom.missingcase.entity.CaseReport;
+import com.topoom.missingcase.repository.CaseReportRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제보 접수
+ * - 요청 스레드는 제보를 좌표 없이 바로 저장하고 반환 (Kakao 호출을 기다리지 않음)
+ * - 백그라운드 스레드가 좌표 변환 대기 목록을 묶음(batch-size) 단위로 꺼내, 같은 목격 장소는 한 번만 변환한 뒤 좌표를 반영
+ * - 대기 목록은 메모리에만 있으므로, 가득 차거나 재시작으로 빠진 제보는 주기적인 스윕이 DB에서 다시 찾아 넣는다
+ */
+@Slf4j
+@Service
+public class ReportIngestionService {
+
+    private final CaseReportService caseReportService;
+    private final CaseReportRepository caseReportRepository;
+    private final KakaoClient kakaoClient;
+    private final BlockingQueue<PendingGeocode> queue;
+    private final int batchSize;
+    private final long lingerMs;
+    private final Duration sweepDelay;
+    private final Duration sweepWindow;
+    private Thread worker;
+    private volatile boolean running = true;
+
+    /**
+     * 좌표 변환 대기 제보
+     */
+    private record PendingGeocode(Long reportId, String location) {
+    }
+
+    public ReportIngestionService(CaseReportService caseReportService,
+                                  CaseReportRepository caseReportRepository,
+                                  KakaoClient kakaoClient,
+                                  @Value("${report.ingest.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${report.ingest.batch-size:100}") int batchSize,
+                                  @Value("${report.ingest.linger-ms:200}") long lingerMs,
+                                  @Value("${report.ingest.sweep-delay-seconds:60}") long sweepDelaySeconds,
+                                  @Value("${report.ingest.sweep-window-hours:24}") long sweepWindowHours) {
+        this.caseReportService = caseReportService;
+        this.caseReportRepository = caseReportRepository;
+        this.kakaoClient = kakaoClient;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.lingerMs = Math.max(0, lingerMs);
+        this.sweepDelay = Duration.ofSeconds(Math.max(0, sweepDelaySeconds));
+        this.sweepWindow = Duration.ofHours(Math.max(1, sweepWindowHours));
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::drainLoop, "report-geocode");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 제보 접수: 좌표 없이 저장한 뒤 좌표 변환을 백그라운드에 맡긴다
+     */
+    public CaseReport submit(CaseReportRequest request) {
+        if (request.getCaseId() == null || request.getCertaintyLevel() == null) {
+            throw new IllegalArgumentException("caseId와 certaintyLevel은 필수입니다.");
+        }
+        CaseReport saved = caseReportService.saveReport(request);
+        enqueue(saved.getId(), saved.getSightedLocation());
+        return saved;
+    }
+
+    private void enqueue(Long reportId, String location) {
+        if (location == null || location.isBlank()) {
+            return;
+        }
+        if (!running || !queue.offer(new PendingGeocode(reportId, location))) {
+            // 저장은 끝났으므로 좌표 변환만 다음 스윕으로 미룬다
+            log.warn("⚠️ 좌표 변환 대기열 포화 - 다음 스윕에서 처리 (reportId={})", reportId);
+        }
+    }
+
+    /**
+     * 좌표가 비어 있는 최근 제보를 대기열에 다시 넣는다 (대기열 포화, 변환 오류, 재시작으로 빠진 제보)
+     * 방금 접수된 제보는 대기열이 처리 중일 수 있으므로 sweep-delay 이전 제보만 대상
+     */
+    @Scheduled(fixedDelayString = "${report.ingest.sweep-ms:60000}",
+            initialDelayString = "${report.ingest.sweep-ms:60000}")
+    public void sweepPendingGeocodes() {
+        LocalDateTime to = LocalDateTime.now().minus(sweepDelay);
+        List<CaseReportRepository.PendingGeocode> pending =
+                caseReportRepository.findPendingGeocodes(to.minus(sweepWindow), to);
+        if (pending.isEmpty()) {
+            return;
+        }
+        log.info("🔄 좌표 변환 대기 제보 {}건 재등록", pending.size());
+        pending.forEach(p -> enqueue(p.getId(), p.getSightedLocation()));
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                PendingGeocode first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingGeocode> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                // 잠깐 기다려 묶음을 채운다 (몰릴 때일수록 묶음이 커짐)
+                long deadline = System.currentTimeMillis() + lingerMs;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingGeocode next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 반영하지 못한 제보는 좌표가 비어 있으므로 다음 스윕에서 다시 처리된다
+                log.error("❌ 제보 좌표 변환 처리 오류", e);
+            }
+        }
+    }
+
+    private void process(List<PendingGeocode> batch) {
+        long start = System.currentTimeMillis();
+        Map<String, double[]> byLocation = geocode(batch);
+        Map<Long, double[]> byReport = new HashMap<>();
+        for (PendingGeocode pending : batch) {
+            double[] coords = byLocation.get(pending.location());
+            if (coords != null) {
+                byReport.put(pending.reportId(), coords);
+            }
+        }
+        if (!byReport.isEmpty()) {
+            caseReportService.applyCoordinates(byReport);
+        }
+        log.info("제보 {}건 좌표 반영 {}건 (좌표 변환 {}곳), {}ms",
+                batch.size(), byReport.size(), byLocation.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 묶음 안의 목격 장소별로 한 번씩 좌표 변환 (트랜잭션 밖에서 수행)
+     */
+    private Map<String, double[]> geocode(List<PendingGeocode> batch) {
+        Map<String, double[]> coordinates = new HashMap<>();
+        batch.stream()
+                .map(PendingGeocode::location)
+                .distinct()
+                .forEach(location -> {
+                    try {
+                        kakaoClient.getCoordinates(location).ifPresentOrElse(
+                                coords -> coordinates.put(location, coords),
+                                () -> log.warn("좌표 변환 실패: {}", location));
+                    } catch (Exception e) {
+                        log.warn("좌표 변환 오류 [{}]: {}", location, e.getMessage());
+                    }
+                });
+        return coordinates;
+    }
+
+    /**
+     * 종료 시 대기열 처리 중단 (남은 제보는 이미 저장되어 있고, 재시작 후 스윕이 좌표를 채운다)
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        if (!queue.isEmpty()) {
+            log.info("종료 시 좌표 변환 대기 제보 {}건 - 재시작 후 스윕에서 처리", queue.size());
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.topoom.missingcase.service;
+
+import com.topoom.common.LruTtlCache;
+import com.topoom.missingcase.dto.SightingHeatmapResponse;
+import com.topoom.missingcase.entity.CaseReport.CertaintyLevel;
+import com.topoom.missingcase.event.CaseDetectionsUpdatedEvent;
+import com.topoom.missingcase.event.CaseReportSavedEvent;
+import com.topoom.missingcase.repository.CaseDetectionRepository;
+import com.topoom.missingcase.repository.CaseReportRepository;
+import com.topoom.missingcase.util.DecayingHeatGrid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사건별 목격 히트맵 (GET /api/v1/missing/{id}/heatmap)
+ * 제보(확신도 가중치)와 CCTV 탐지(유사도 가중치)를 격자 칸별로 시간 감쇠 누적한다.
+ * 사건마다 처음 조회할 때 한 번 DB에서 적재하고, 이후에는 새 제보(CaseReportSavedEvent)와
+ * 새 탐지(마지막으로 반영한 탐지 id 이후 행)만 더하므로 전체를 다시 계산하지 않는다.
+ */
+@Slf4j
+@Service
+public class SightingHeatmapService {
+
+    private static final int SOURCE_REPORT = 0;
+    private static final int SOURCE_DETECTION = 1;
+
+    private final CaseReportRepository caseReportRepository;
+    private final CaseDetectionRepository caseDetectionRepository;
+    private final LruTtlCache<Long, CaseHeat> cache;
+    private final int cellZoom;
+    private final long halfLifeMillis;
+    private final long ttlMillis;
+
+    public SightingHeatmapService(CaseReportRepository caseReportRepository,
+                                  CaseDetectionRepository caseDetectionRepository,
+                                  @Value("${missing-case.heatmap.cell-zoom:16}") int cellZoom,
+                                  @Value("${missing-case.heatmap.half-life-hours:24}") double halfLifeHours,
+                                  @Value("${missing-case.heatmap.max-cases:500}") int maxCases,
+                                  @Value("${missing-case.heatmap.ttl-hours:6}") long ttlHours) {
+        this.caseReportRepository = caseReportRepository;
+        this.caseDetectionRepository = caseDetectionRepository;
+        this.cellZoom = cellZoom;
+        this.halfLifeMillis = (long) (halfLifeHours * 3_600_000L);
+        this.ttlMillis = ttlHours * 3_600_000L;
+        this.cache = new LruTtlCache<>(maxCases);
+    }
+
+    /**
+     * 사건 하나의 집계 상태 (this를 잠금으로 사용)
+     */
+    private static final class CaseHeat {
+        final DecayingHeatGrid grid;
+        // 격자에 반영된 제보 id - 좌표 변환이 늦게 끝난 제보도 한 번만 반영
+        final Set<Long> reportIds;
+        long lastDetectionId;
+
+        CaseHeat(DecayingHeatGrid grid, Set<Long> reportIds) {
+            this.grid = grid;
+            this.reportIds = reportIds;
+        }
+    }
+
+    public SightingHeatmapResponse getHeatmap(Long caseId, double minWeight) {
+        CaseHeat heat = getOrSeed(caseId);
+        List<DecayingHeatGrid.CellValue> cells;
+        synchronized (heat) {
+            // 외부 탐색기가 무효화 요청 없이 기록한 탐지도 조회 시점에 따라잡는다
+            catchUpDetections(caseId, heat);
+            cells = heat.grid.snapshot(System.currentTimeMillis(), minWeight);
+        }
+
+        return SightingHeatmapResponse.builder()
+                .caseId(caseId)
+                .cellZoom(cellZoom)
+                .halfLifeHours(halfLifeMillis / 3_600_000.0)
+                .generatedAt(LocalDateTime.now())
+                .cells(cells.stream()
+                        .map(c -> SightingHeatmapResponse.Cell.builder()
+                                .latitude(c.latitude())
+                                .longitude(c.longitude())
+                                .weight(c.weight())
+                                .reportCount(c.counts()[SOURCE_REPORT])
+                                .detectionCount(c.counts()[SOURCE_DETECTION])
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReportSaved(CaseReportSavedEvent event) {
+        if (event.getLatitude() == null || event.getLongitude() == null) {
+            return;
+        }
+        // 아직 적재되지 않은 사건은 처음 조회할 때 DB에서 함께 읽힌다
+        cache.get(event.getCaseId()).ifPresent(heat -> {
+            synchronized (heat) {
+                if (heat.reportIds.add(event.getReportId())) {
+                    heat.grid.add(event.getLatitude().doubleValue(), event.getLongitude().doubleValue(),
+                            reportWeight(event.getCertaintyLevel()), toMillis(event.getSightedAt()), SOURCE_REPORT);
+                }
+            }
+        });
+    }
+
+    @EventListener
+    public void onDetectionsUpdated(CaseDetectionsUpdatedEvent event) {
+        cache.get(event.getCaseId()).ifPresent(heat -> {
+            synchronized (heat) {
+                catchUpDetections(event.getCaseId(), heat);
+            }
+        });
+    }
+
+    private CaseHeat getOrSeed(Long caseId) {
+        CaseHeat heat = cache.get(caseId).orElse(null);
+        if (heat != null) {
+            return heat;
+        }
+        synchronized (this) {
+            heat = cache.get(caseId).orElse(null);
+            if (heat == null) {
+                heat = seed(caseId);
+                cache.put(caseId, heat, ttlMillis);
+                // 적재 조회와 put 사이에 커밋된 제보는 이벤트가 캐시를 못 찾아 버려졌으므로 다시 따라잡는다
+                synchronized (heat) {
+                    catchUpReports(caseId, heat);
+                }
+            }
+            return heat;
+        }
+    }
+
+    private CaseHeat seed(Long caseId) {
+        long start = System.currentTimeMillis();
+        DecayingHeatGrid grid = new DecayingHeatGrid(cellZoom, 2, halfLifeMillis);
+        CaseHeat heat = new CaseHeat(grid, new HashSet<>());
+        catchUpReports(caseId, heat);
+        catchUpDetections(caseId, heat);
+        log.debug("히트맵 적재: caseId={}, 격자 {}칸, {}ms", caseId, grid.size(), System.currentTimeMillis() - start);
+        return heat;
+    }
+
+    /**
+     * 좌표가 있는 제보 중 아직 반영하지 않은 것만 더한다 (제보 id로 중복 방지)
+     */
+    private void catchUpReports(Long caseId, CaseHeat heat) {
+        for (CaseReportRepository.ReportPoint report : caseReportRepository.findPointsByCaseId(caseId)) {
+            if (!heat.reportIds.add(report.getId())) {
+                continue;
+            }
+            LocalDateTime at = report.getSightedAt() != null ? report.getSightedAt() : report.getCreatedAt();
+            heat.grid.add(report.getLatitude().doubleValue(), report.getLongitude().doubleValue(),
+                    reportWeight(report.getCertaintyLevel()), toMillis(at), SOURCE_REPORT);
+        }
+    }
+
+    private void catchUpDetections(Long caseId, CaseHeat heat) {
+        for (CaseDetectionRepository.DetectionPoint detection :
+                caseDetectionRepository.findPointsByCaseIdAfter(caseId, heat.lastDetectionId)) {
+            heat.grid.add(detection.getLatitude().doubleValue(), detection.getLongitude().doubleValue(),
+                    detectionWeight(detection.getSimilarityScore()), toMillis(detection.getDetectedAt()), SOURCE_DETECTION);
+            heat.lastDetectionId = detection.getId();
+        }
+    }
+
+    private double reportWeight(CertaintyLevel level) {
+        if (level == null) {
+            return 0.3;
+        }
+        return switch (level) {
+            case HIGH -> 1.0;
+            case MEDIUM -> 0.6;
+            case LOW -> 0.3;
+        };
+    }
+
+    /**
+     * 유사도를 0~1 가중치로 (백분율로 기록된 값도 허용)
+     */
+    private double detectionWeight(Double similarityScore) {
+        if (similarityScore == null) {
+            return 0;
+        }
+        double score = similarityScore > 1.0 ? similarityScore / 100.0 : similarityScore;
+        return Math.max(0, Math.min(1.0, score));
+    }
+
+    private long toMillis(LocalDateTime at) {
+        long now = System.currentTimeMillis();
+        if (at == null) {
+            return now;
+        }
+        return Math.min(now, at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
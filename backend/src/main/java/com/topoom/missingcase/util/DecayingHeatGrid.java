@@ -0,0 +1,99 @@
+package com.topoom.missingcase.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간 감쇠 가중치를 가진 격자 집계 (웹 메르카토르 타일 한 장 = 격자 한 칸)
+ * 칸마다 (마지막 갱신 시각 기준 값, 마지막 갱신 시각)만 저장하고 감쇠는 읽거나 더할 때 계산하므로,
+ * 점 하나 추가는 O(1)이고 전체를 다시 계산할 필요가 없다. 반감기마다 값이 절반이 된다.
+ * 스레드 안전하지 않으므로 호출자가 동기화해야 한다.
+ */
+public final class DecayingHeatGrid {
+
+    private final int zoom;
+    private final int sourceCount;
+    private final double lambdaPerMilli;
+    private final Map<Long, Cell> cells = new HashMap<>();
+
+    /**
+     * @param zoom        격자 크기로 쓸 타일 줌 레벨
+     * @param sourceCount 점 출처 종류 수 (칸마다 출처별 개수를 따로 센다)
+     */
+    public DecayingHeatGrid(int zoom, int sourceCount, long halfLifeMillis) {
+        if (halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("반감기는 0보다 커야 합니다.");
+        }
+        this.zoom = zoom;
+        this.sourceCount = sourceCount;
+        this.lambdaPerMilli = Math.log(2) / halfLifeMillis;
+    }
+
+    /**
+     * 한 칸의 현재 값
+     * @param counts 출처별 누적 점 개수 (감쇠 없음)
+     */
+    public record CellValue(double latitude, double longitude, double weight, int[] counts) {
+    }
+
+    private static final class Cell {
+        final int x;
+        final int y;
+        double value;
+        long lastMillis;
+        final int[] counts;
+
+        Cell(int x, int y, int sourceCount) {
+            this.x = x;
+            this.y = y;
+            this.counts = new int[sourceCount];
+        }
+    }
+
+    /**
+     * 점 추가
+     * @param atMillis 발생 시각 (과거 시각이면 그만큼 감쇠된 값으로 더해진다)
+     * @param source   출처 번호 (0 ~ sourceCount - 1)
+     */
+    public void add(double latitude, double longitude, double weight, long atMillis, int source) {
+        int x = WebMercatorTiles.tileX(longitude, zoom);
+        int y = WebMercatorTiles.tileY(latitude, zoom);
+        Cell cell = cells.computeIfAbsent(((long) x << 32) | (y & 0xFFFFFFFFL), k -> new Cell(x, y, sourceCount));
+        if (atMillis >= cell.lastMillis) {
+            cell.value = cell.value * decay(atMillis - cell.lastMillis) + weight;
+            cell.lastMillis = atMillis;
+        } else {
+            cell.value += weight * decay(cell.lastMillis - atMillis);
+        }
+        cell.counts[source]++;
+    }
+
+    /**
+     * nowMillis 시점 값이 minWeight 이상인 칸 (가중치 내림차순)
+     */
+    public List<CellValue> snapshot(long nowMillis, double minWeight) {
+        List<CellValue> result = new ArrayList<>();
+        for (Cell cell : cells.values()) {
+            double weight = cell.value * decay(Math.max(0, nowMillis - cell.lastMillis));
+            if (weight >= minWeight) {
+                result.add(new CellValue(
+                        WebMercatorTiles.tileCenterLatitude(cell.y, zoom),
+                        WebMercatorTiles.tileCenterLongitude(cell.x, zoom),
+                        weight,
+                        cell.counts.clone()));
+            }
+        }
+        result.sort((a, b) -> Double.compare(b.weight(), a.weight()));
+        return result;
+    }
+
+    public int size() {
+        return cells.size();
+    }
+
+    private double decay(long elapsedMillis) {
+        return Math.exp(-lambdaPerMilli * elapsedMillis);
+    }
+}
@@ -0,0 +1,22 @@
+package com.topoom.missingcase.util;
+
+import java.math.BigDecimal;
+
+/**
+ * 반경 검색용 위경도 사각형 (인덱스 범위 조건으로 사용)
+ * 사각형은 반경 원을 완전히 포함하므로, 사각형으로 후보를 좁힌 뒤 Haversine으로 정확히 판정하면 결과가 같다.
+ */
+public record GeoBoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+
+    public static GeoBoundingBox around(double latitude, double longitude, double radiusKm) {
+        double latDelta = GeoUtils.latitudeDelta(radiusKm);
+        double lngDelta = GeoUtils.longitudeDelta(latitude, radiusKm);
+        double minLng = lngDelta >= 180.0 ? -180.0 : longitude - lngDelta;
+        double maxLng = lngDelta >= 180.0 ? 180.0 : longitude + lngDelta;
+        return new GeoBoundingBox(latitude - latDelta, latitude + latDelta, minLng, maxLng);
+    }
+
+    public static GeoBoundingBox around(BigDecimal latitude, BigDecimal longitude, double radiusKm) {
+        return around(latitude.doubleValue(), longitude.doubleValue(), radiusKm);
+    }
+}
@@ -0,0 +1,170 @@
+package com.topoom.missingcase.util;
+
+import java.util.function.IntConsumer;
+
+/**
+ * 위경도 점 집합에 대한 불변 2차원 k-d 트리
+ * 좌표를 배열에 k-d 순서로 재배치하여 저장하므로 노드 객체 없이 메모리를 적게 사용한다.
+ * 생성 이후에는 읽기 전용이므로 여러 스레드에서 동시에 조회해도 안전하다.
+ */
+public final class GeoKdTree {
+
+    private final double[] lat;
+    private final double[] lng;
+    // 재배치된 위치 -> 원본 입력 인덱스
+    private final int[] index;
+
+    /**
+     * @param latitudes  위도 배열
+     * @param longitudes 경도 배열 (latitudes와 길이가 같아야 함)
+     */
+    public GeoKdTree(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("위도/경도 배열 길이가 다릅니다.");
+        }
+        int n = latitudes.length;
+        this.lat = latitudes.clone();
+        this.lng = longitudes.clone();
+        this.index = new int[n];
+        for (int i = 0; i < n; i++) {
+            index[i] = i;
+        }
+        build(0, n, 0);
+    }
+
+    public int size() {
+        return lat.length;
+    }
+
+    /**
+     * 중심 좌표로부터 반경 radiusKm 이내 점의 개수
+     * 거리 판정은 {@link GeoUtils#isWithinRadius}로 SQL 쿼리와 동일하게 수행한다.
+     */
+    public int countWithinRadius(double centerLat, double centerLng, double radiusKm) {
+        int[] count = new int[1];
+        forEachWithinRadius(centerLat, centerLng, radiusKm, i -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * 반경 radiusKm 이내 점들의 원본 인덱스를 순회
+     */
+    public void forEachWithinRadius(double centerLat, double centerLng, double radiusKm, IntConsumer consumer) {
+        if (lat.length == 0) {
+            return;
+        }
+        double latDelta = GeoUtils.latitudeDelta(radiusKm);
+        double lngDelta = GeoUtils.longitudeDelta(centerLat, radiusKm);
+        double minLat = centerLat - latDelta;
+        double maxLat = centerLat + latDelta;
+        double minLng = lngDelta >= 180.0 ? Double.NEGATIVE_INFINITY : centerLng - lngDelta;
+        double maxLng = lngDelta >= 180.0 ? Double.POSITIVE_INFINITY : centerLng + lngDelta;
+
+        searchBox(0, lat.length, 0, minLat, maxLat, minLng, maxLng, pos -> {
+            if (GeoUtils.isWithinRadius(centerLat, centerLng, lat[pos], lng[pos], radiusKm)) {
+                consumer.accept(index[pos]);
+            }
+        });
+    }
+
+    /**
+     * 위경도 사각형(경계 포함) 안에 있는 점들의 원본 인덱스를 순회
+     */
+    public void forEachInBox(double minLat, double maxLat, double minLng, double maxLng, IntConsumer consumer) {
+        if (lat.length == 0) {
+            return;
+        }
+        searchBox(0, lat.length, 0, minLat, maxLat, minLng, maxLng, pos -> consumer.accept(index[pos]));
+    }
+
+    private void searchBox(int lo, int hi, int depth,
+                           double minLat, double maxLat, double minLng, double maxLng,
+                           IntConsumer hit) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            double pLat = lat[mid];
+            double pLng = lng[mid];
+            if (pLat >= minLat && pLat <= maxLat && pLng >= minLng && pLng <= maxLng) {
+                hit.accept(mid);
+            }
+
+            boolean latAxis = (depth & 1) == 0;
+            double value = latAxis ? pLat : pLng;
+            double min = latAxis ? minLat : minLng;
+            double max = latAxis ? maxLat : maxLng;
+
+            boolean goLeft = value >= min;
+            boolean goRight = value <= max;
+            if (goLeft && goRight) {
+                searchBox(lo, mid, depth + 1, minLat, maxLat, minLng, maxLng, hit);
+                lo = mid + 1;
+            } else if (goLeft) {
+                hi = mid;
+            } else if (goRight) {
+                lo = mid + 1;
+            } else {
+                return;
+            }
+            depth++;
+        }
+    }
+
+    /**
+     * [lo, hi) 구간을 중앙값 기준으로 분할하여 k-d 순서로 재배치
+     * 왼쪽 구간은 축 값 <= 중앙값, 오른쪽 구간은 축 값 >= 중앙값을 만족한다.
+     */
+    private void build(int lo, int hi, int depth) {
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            select(lo, hi - 1, mid, (depth & 1) == 0 ? lat : lng);
+            build(lo, mid, depth + 1);
+            lo = mid + 1;
+            depth++;
+        }
+    }
+
+    /**
+     * Quickselect: keys 기준으로 k번째 원소가 제자리에 오도록 [left, right] 구간을 부분 정렬
+     */
+    private void select(int left, int right, int k, double[] keys) {
+        while (right > left) {
+            int pivotIndex = partition(left, right, (left + right) >>> 1, keys);
+            if (pivotIndex == k) {
+                return;
+            } else if (k < pivotIndex) {
+                right = pivotIndex - 1;
+            } else {
+                left = pivotIndex + 1;
+            }
+        }
+    }
+
+    private int partition(int left, int right, int pivotIndex, double[] keys) {
+        double pivot = keys[pivotIndex];
+        swap(pivotIndex, right);
+        int store = left;
+        for (int i = left; i < right; i++) {
+            if (keys[i] < pivot) {
+                swap(store, i);
+                store++;
+            }
+        }
+        swap(right, store);
+        return store;
+    }
+
+    private void swap(int a, int b) {
+        if (a == b) {
+            return;
+        }
+        double tLat = lat[a];
+        lat[a] = lat[b];
+        lat[b] = tLat;
+        double tLng = lng[a];
+        lng[a] = lng[b];
+        lng[b] = tLng;
+        int tIdx = index[a];
+        index[a] = index[b];
+        index[b] = tIdx;
+    }
+}
@@ -0,0 +1,61 @@
+package com.topoom.missingcase.util;
+
+/**
+ * 위경도 거리 계산 유틸리티
+ * DB 네이티브 쿼리에서 사용하던 Haversine(구면 코사인 법칙) 식과 동일한 계산을 Java로 수행
+ */
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    // 부동소수점 오차로 경계값이 누락되지 않도록 사각형 범위에 더하는 여유값 (도 단위)
+    private static final double BOX_MARGIN_DEGREES = 1e-9;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * 두 좌표 사이의 거리(km)
+     * SQL: 6371 * acos(cos(radians(lat1)) * cos(radians(lat2)) * cos(radians(lng2) - radians(lng1))
+     *                  + sin(radians(lat1)) * sin(radians(lat2)))
+     * acos 인자가 1을 넘으면 SQL과 동일하게 NaN(=비교 실패)을 반환한다.
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double lat1Rad = Math.toRadians(lat1);
+        double lat2Rad = Math.toRadians(lat2);
+        return EARTH_RADIUS_KM * Math.acos(
+                Math.cos(lat1Rad) * Math.cos(lat2Rad) * Math.cos(Math.toRadians(lng2) - Math.toRadians(lng1))
+                        + Math.sin(lat1Rad) * Math.sin(lat2Rad));
+    }
+
+    /**
+     * 반경 내 판정 (SQL의 "거리 <= radiusKm" 조건과 동일)
+     */
+    public static boolean isWithinRadius(double lat1, double lng1, double lat2, double lng2, double radiusKm) {
+        return distanceKm(lat1, lng1, lat2, lng2) <= radiusKm;
+    }
+
+    /**
+     * 반경 radiusKm 원을 감싸는 위도 반폭(도)
+     */
+    public static double latitudeDelta(double radiusKm) {
+        return Math.toDegrees(radiusKm / EARTH_RADIUS_KM) + BOX_MARGIN_DEGREES;
+    }
+
+    /**
+     * 반경 radiusKm 원을 감싸는 경도 반폭(도)
+     * 극지방 등 계산이 불가능한 경우 전체 경도(180도)를 반환
+     */
+    public static double longitudeDelta(double latitude, double radiusKm) {
+        double angular = radiusKm / EARTH_RADIUS_KM;
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        if (cosLat <= 0) {
+            return 180.0;
+        }
+        double ratio = Math.sin(angular) / cosLat;
+        if (ratio >= 1.0) {
+            return 180.0;
+        }
+        return Math.toDegrees(Math.asin(ratio)) + BOX_MARGIN_DEGREES;
+    }
+}
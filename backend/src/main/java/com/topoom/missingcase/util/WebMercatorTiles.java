@@ -0,0 +1,90 @@
+package com.topoom.missingcase.util;
+
+/**
+ * 웹 메르카토르(XYZ) 타일 좌표 계산
+ * 점을 최대 줌({@link #MAX_ZOOM}) 타일의 Morton(Z-order) 코드로 바꾸면,
+ * 어느 줌의 타일이든 그 안의 점들은 정렬된 코드 배열에서 연속 구간이 되고
+ * 하위 타일별 묶음은 코드의 상위 비트가 같은 연속 구간이 된다.
+ */
+public final class WebMercatorTiles {
+
+    public static final int MAX_ZOOM = 24;
+    public static final double MAX_LATITUDE = 85.05112878;
+
+    private WebMercatorTiles() {
+    }
+
+    public static void validate(int z, int x, int y) {
+        if (z < 0 || z > MAX_ZOOM) {
+            throw new IllegalArgumentException("줌 레벨은 0~" + MAX_ZOOM + " 사이여야 합니다.");
+        }
+        long n = 1L << z;
+        if (x < 0 || x >= n || y < 0 || y >= n) {
+            throw new IllegalArgumentException("타일 좌표가 줌 레벨 범위를 벗어났습니다.");
+        }
+    }
+
+    public static int tileX(double longitude, int z) {
+        long n = 1L << z;
+        long x = (long) Math.floor((longitude + 180.0) / 360.0 * n);
+        return (int) Math.min(n - 1, Math.max(0, x));
+    }
+
+    public static int tileY(double latitude, int z) {
+        long n = 1L << z;
+        double lat = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+        long y = (long) Math.floor((1.0 - Math.log(Math.tan(lat) + 1.0 / Math.cos(lat)) / Math.PI) / 2.0 * n);
+        return (int) Math.min(n - 1, Math.max(0, y));
+    }
+
+    public static double tileCenterLongitude(int x, int z) {
+        return (x + 0.5) / (1L << z) * 360.0 - 180.0;
+    }
+
+    public static double tileCenterLatitude(int y, int z) {
+        double n = Math.PI * (1.0 - 2.0 * (y + 0.5) / (1L << z));
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    /**
+     * 점의 최대 줌 Morton 코드
+     */
+    public static long pointCode(double latitude, double longitude) {
+        return morton(tileX(longitude, MAX_ZOOM), tileY(latitude, MAX_ZOOM));
+    }
+
+    /**
+     * 타일 (z, x, y)에 속하는 점 코드의 시작값 (포함)
+     */
+    public static long rangeStart(int z, int x, int y) {
+        return morton(x, y) << (2 * (MAX_ZOOM - z));
+    }
+
+    /**
+     * 타일 (z, x, y)에 속하는 점 코드의 끝값 (제외)
+     */
+    public static long rangeEnd(int z, int x, int y) {
+        return (morton(x, y) + 1) << (2 * (MAX_ZOOM - z));
+    }
+
+    /**
+     * 점 코드를 줌 z 타일의 Morton 코드로 축약 (같은 타일이면 같은 값)
+     */
+    public static long codeAtZoom(long pointCode, int z) {
+        return pointCode >>> (2 * (MAX_ZOOM - z));
+    }
+
+    static long morton(int x, int y) {
+        return spread(x) | (spread(y) << 1);
+    }
+
+    private static long spread(int value) {
+        long v = value & 0xFFFFFFFFL;
+        v = (v | (v << 16)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v << 8)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v << 2)) & 0x3333333333333333L;
+        v = (v | (v << 1)) & 0x5555555555555555L;
+        return v;
+    }
+}
@@ -0,0 +1,51 @@
+package com.topoom.common;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageHeaderSnifferTest {
+
+    @Test
+    void 조각난_스트림에서도_포맷과_크기를_읽는다() throws IOException {
+        String[][] formats = {
+                {"png", "image/png"}, {"jpg", "image/jpeg"}, {"gif", "image/gif"}, {"bmp", "image/bmp"}
+        };
+        for (String[] format : formats) {
+            byte[] data = encode(format[0], 321, 123);
+            for (int chunk : new int[]{1, 7, 8192}) {
+                ImageHeaderSniffer sniffer = new ImageHeaderSniffer();
+                for (int i = 0; i < data.length; i += chunk) {
+                    sniffer.update(data, i, Math.min(chunk, data.length - i));
+                }
+
+                assertThat(sniffer.contentType()).isEqualTo(format[1]);
+                assertThat(sniffer.width()).isEqualTo(321);
+                assertThat(sniffer.height()).isEqualTo(123);
+            }
+        }
+    }
+
+    @Test
+    void 알수없는_포맷은_JPEG로_보고_크기는_비워둔다() {
+        byte[] data = "not an image, just some text bytes".getBytes();
+        ImageHeaderSniffer sniffer = new ImageHeaderSniffer();
+        sniffer.update(data, 0, data.length);
+
+        assertThat(sniffer.contentType()).isEqualTo("image/jpeg");
+        assertThat(sniffer.width()).isNull();
+        assertThat(sniffer.height()).isNull();
+    }
+
+    private static byte[] encode(String format, int width, int height) throws IOException {
+        int type = format.equals("jpg") || format.equals("bmp") ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), format, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,110 @@
+package com.topoom.messaging.codec;
+
+import com.topoom.messaging.dto.BlogCrawlingMessage;
+import com.topoom.messaging.dto.ContactInfo;
+import com.topoom.messaging.dto.FinalizeMessage;
+import com.topoom.messaging.dto.MessageStage;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SmileMessageConverterTest {
+
+    private final MessageConverter jsonDefault = MessageCodecs.messageConverter("json");
+    private final MessageConverter smileDefault = MessageCodecs.messageConverter("smile");
+
+    @Test
+    void FinalizeMessage가_JSON에서_Smile을_거쳐_그대로_복원된다() {
+        FinalizeMessage original = FinalizeMessage.builder()
+                .requestId("req-1")
+                .blogUrl("https://blog.naver.com/safe182pol/1")
+                .title("실종자를 찾습니다")
+                .contacts(List.of(ContactInfo.builder().organization("경찰청").phoneNumber("182").build()))
+                .parsedOcrData(Map.of("personName", "홍길동", "age", 32))
+                .caseId(42L)
+                .finalizeRetryCount(2)
+                .stage(MessageStage.FINALIZE)
+                .version(FinalizeMessage.CLAIM_CHECK_VERSION)
+                .build();
+
+        assertThat(jsonThenSmile(original)).isEqualTo(original);
+    }
+
+    @Test
+    void BlogCrawlingMessage의_LocalDateTime이_JSON에서_Smile을_거쳐_그대로_복원된다() {
+        BlogCrawlingMessage original = BlogCrawlingMessage.builder()
+                .requestId("req-2")
+                .postUrl("https://blog.naver.com/safe182pol/2")
+                .title("실종 아동")
+                .logNo("2")
+                .categoryNo("7")
+                .createdAt(LocalDateTime.of(2025, 3, 14, 9, 30, 15, 123_000_000))
+                .build();
+
+        assertThat(jsonThenSmile(original)).isEqualTo(original);
+    }
+
+    @Test
+    void 발행은_설정한_코덱으로_소비는_content_type으로_고른다() {
+        BlogCrawlingMessage original = BlogCrawlingMessage.builder()
+                .requestId("req-3")
+                .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .build();
+
+        Message json = jsonDefault.toMessage(original, new MessageProperties());
+        Message smile = smileDefault.toMessage(original, new MessageProperties());
+
+        assertThat(json.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(smile.getMessageProperties().getContentType()).isEqualTo(SmileMessageConverter.CONTENT_TYPE);
+        assertThat(smile.getMessageProperties().<Object>getHeader(SmileMessageConverter.CODEC_VERSION_HEADER))
+                .isEqualTo(SmileMessageConverter.CODEC_VERSION);
+        // Smile 본문은 ":)\n" 헤더로 시작
+        assertThat(smile.getBody()).startsWith((byte) ':', (byte) ')', (byte) '\n');
+
+        // 발행 코덱과 무관하게 두 형식 모두 소비 가능
+        assertThat(jsonDefault.fromMessage(smile)).isEqualTo(original);
+        assertThat(smileDefault.fromMessage(json)).isEqualTo(original);
+    }
+
+    @Test
+    void 지원_버전보다_높은_코덱_버전은_거부한다() {
+        Message smile = smileDefault.toMessage(BlogCrawlingMessage.builder().requestId("req-4").build(),
+                new MessageProperties());
+        smile.getMessageProperties().setHeader(SmileMessageConverter.CODEC_VERSION_HEADER,
+                SmileMessageConverter.CODEC_VERSION + 1);
+
+        assertThatThrownBy(() -> jsonDefault.fromMessage(smile))
+                .isInstanceOf(MessageConversionException.class);
+    }
+
+    @Test
+    void json_smile_이외의_코덱_설정은_거부한다() {
+        assertThatThrownBy(() -> MessageCodecs.messageConverter("protobuf"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MessageCodecs.messageConverter(""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * JSON으로 발행된 메시지를 읽어 Smile로 다시 발행한 뒤 읽는다 (코덱 전환 경로)
+     */
+    private Object jsonThenSmile(Object original) {
+        Message json = jsonDefault.toMessage(original, new MessageProperties());
+        assertThat(json.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+
+        Object fromJson = smileDefault.fromMessage(json);
+        Message smile = smileDefault.toMessage(fromJson, new MessageProperties());
+        assertThat(smile.getMessageProperties().getContentType()).isEqualTo(SmileMessageConverter.CONTENT_TYPE);
+
+        return jsonDefault.fromMessage(smile);
+    }
+}
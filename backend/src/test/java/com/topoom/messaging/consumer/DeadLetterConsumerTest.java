@@ -0,0 +1,99 @@
+package com.topoom.messaging.consumer;
+
+import com.rabbitmq.client.Channel;
+import com.topoom.config.RabbitMQConfig;
+import com.topoom.messaging.retry.ConfirmedPublisher;
+import com.topoom.messaging.retry.DelayedRetryAdvice;
+import com.topoom.missingcase.service.ManualManagingMissingCaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class DeadLetterConsumerTest {
+
+    private static final long DELAY_MS = 10_000;
+
+    private final ConfirmedPublisher confirmedPublisher = mock(ConfirmedPublisher.class);
+    private final ManualManagingMissingCaseService manualCaseService = mock(ManualManagingMissingCaseService.class);
+    private final Channel channel = mock(Channel.class);
+    private DeadLetterConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new DeadLetterConsumer(confirmedPublisher, manualCaseService);
+        ReflectionTestUtils.setField(consumer, "retryDelaysMs", new long[]{DELAY_MS});
+        ReflectionTestUtils.setField(consumer, "saveRetryDelayMs", 30_000L);
+        ReflectionTestUtils.setField(consumer, "maxSaveAttempts", 5);
+    }
+
+    @Test
+    void 재발행이_확인되면_원본을_ack한다() throws IOException {
+        Message message = deadLetter(7, RabbitMQConfig.OCR_REQUEST_QUEUE);
+
+        consumer.consumeDeadLetters(List.of(message), channel);
+
+        verify(confirmedPublisher).send("",
+                DelayedRetryAdvice.delayQueueName(RabbitMQConfig.OCR_REQUEST_QUEUE, DELAY_MS), message);
+        verify(channel).basicAck(7, false);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void 재발행이_실패하면_원본을_nack해_DLQ로_되돌린다() throws IOException {
+        doThrow(new AmqpException("confirm timeout"))
+                .when(confirmedPublisher).send(anyString(), anyString(), any(Message.class));
+        Message failed = deadLetter(7, RabbitMQConfig.OCR_REQUEST_QUEUE);
+        Message next = deadLetter(8, RabbitMQConfig.FINALIZE_QUEUE);
+
+        consumer.consumeDeadLetters(List.of(failed, next), channel);
+
+        // prefetch 자리를 붙잡지 않도록 메시지마다 ack 또는 nack 중 하나는 반드시 한다
+        verify(channel).basicNack(7, false, true);
+        verify(channel).basicNack(8, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void 저장도_parking_이동도_실패하면_원본을_nack한다() throws IOException {
+        doThrow(new IllegalStateException("db down")).when(manualCaseService).recordFailures(anyList());
+        doThrow(new AmqpException("confirm timeout"))
+                .when(confirmedPublisher).send(anyString(), anyString(), any(Message.class));
+        Message message = deadLetter(9, RabbitMQConfig.FINALIZE_QUEUE);
+        // 재시도 한도를 넘긴 영구 실패, 저장 시도도 마지막 회차
+        message.getMessageProperties().setHeader("x-dlq-retry-count", 3);
+        message.getMessageProperties().setHeader("x-dlq-save-attempts", 4);
+
+        consumer.consumeDeadLetters(List.of(message), channel);
+
+        verify(confirmedPublisher).send(eq(""), eq(RabbitMQConfig.PARKING_QUEUE), any(Message.class));
+        verify(channel).basicNack(9, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    private static Message deadLetter(long deliveryTag, String originalQueue) {
+        MessageProperties props = new MessageProperties();
+        props.setDeliveryTag(deliveryTag);
+        props.setMessageId("msg-" + deliveryTag);
+        props.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        props.setHeader(DelayedRetryAdvice.ORIGINAL_QUEUE_HEADER, originalQueue);
+        return new Message("{\"caseId\":1,\"title\":\"제목\"}".getBytes(StandardCharsets.UTF_8), props);
+    }
+}
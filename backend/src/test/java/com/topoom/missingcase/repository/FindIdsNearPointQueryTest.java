@@ -0,0 +1,311 @@
+package com.topoom.missingcase.repository;
+
+import com.topoom.missingcase.util.GeoBoundingBox;
+import com.topoom.missingcase.util.GeoKdTree;
+import com.topoom.missingcase.util.GeoUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * findIdsNearPoint 네이티브 쿼리와 GeoKdTree 결과 비교
+ * DB 없이 실행할 수 있도록 @Query 원문의 WHERE / ORDER BY 식을 그대로 파싱해 행마다 평가한다.
+ * 쿼리의 사각형 조건이나 Haversine 식이 바뀌면 트리(GeoUtils)와 결과가 달라져 이 테스트가 실패한다.
+ */
+class FindIdsNearPointQueryTest {
+
+    private static SqlCondition where;
+    private static SqlExpression orderBy;
+
+    @BeforeAll
+    static void parseQuery() throws NoSuchMethodException {
+        String sql = MissingCaseRepository.class.getMethod("findIdsNearPoint",
+                        double.class, double.class, double.class, double.class, double.class, double.class, double.class)
+                .getAnnotation(Query.class).value();
+        Matcher matcher = Pattern.compile("WHERE(.*)ORDER BY(.*)", Pattern.DOTALL).matcher(sql);
+        assertThat(matcher.find()).as("WHERE ... ORDER BY 형태의 쿼리").isTrue();
+        where = new SqlParser(matcher.group(1)).parseCondition();
+        orderBy = new SqlParser(matcher.group(2)).parseExpression();
+    }
+
+    @Test
+    void 쿼리_결과가_KD트리_반경_검색과_일치한다() {
+        Random random = new Random(7);
+        int n = 3000;
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            latitudes[i] = round7(37.40 + random.nextDouble() * 0.30);
+            longitudes[i] = round7(126.80 + random.nextDouble() * 0.40);
+        }
+        GeoKdTree tree = new GeoKdTree(latitudes, longitudes);
+
+        for (int q = 0; q < 200; q++) {
+            double lat;
+            double lng;
+            if (q % 4 == 0) {
+                // 저장된 좌표와 정확히 같은 중심
+                int at = random.nextInt(n);
+                lat = latitudes[at];
+                lng = longitudes[at];
+            } else {
+                lat = 37.40 + random.nextDouble() * 0.30;
+                lng = 126.80 + random.nextDouble() * 0.40;
+            }
+            double radiusKm = q % 2 == 0 ? 0.2 : random.nextDouble() * 5.0;
+
+            List<Integer> fromSql = runQuery(latitudes, longitudes, lat, lng, radiusKm);
+            TreeSet<Integer> fromTree = new TreeSet<>();
+            tree.forEachWithinRadius(lat, lng, radiusKm, fromTree::add);
+
+            assertThat(new TreeSet<>(fromSql))
+                    .as("lat=%s, lng=%s, radiusKm=%s", lat, lng, radiusKm)
+                    .isEqualTo(fromTree);
+        }
+    }
+
+    @Test
+    void 쿼리의_거리_식이_GeoUtils_거리와_같다() {
+        double[][] points = {{37.5665, 126.9780}, {37.4979, 127.0276}, {35.1796, 129.0756}, {33.4996, 126.5312}};
+        for (double[] from : points) {
+            for (double[] to : points) {
+                Map<String, Double> row = row(from[0], from[1], to[0], to[1], 10.0);
+                double expected = GeoUtils.distanceKm(from[0], from[1], to[0], to[1]);
+                if (Double.isNaN(expected)) {
+                    assertThat(orderBy.eval(row)).isNaN();
+                } else {
+                    assertThat(orderBy.eval(row)).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    void 사각형_경계에_걸친_점도_트리와_같이_판정한다() {
+        double lat = 37.5;
+        double lng = 127.0;
+        double radiusKm = 1.0;
+        GeoBoundingBox box = GeoBoundingBox.around(lat, lng, radiusKm);
+        double[] latitudes = {box.minLatitude(), box.maxLatitude(), lat, lat, lat + 0.0089, lat};
+        double[] longitudes = {lng, lng, box.minLongitude(), box.maxLongitude(), lng, lng + 0.0113};
+
+        List<Integer> fromSql = runQuery(latitudes, longitudes, lat, lng, radiusKm);
+        TreeSet<Integer> fromTree = new TreeSet<>();
+        new GeoKdTree(latitudes, longitudes).forEachWithinRadius(lat, lng, radiusKm, fromTree::add);
+
+        assertThat(new TreeSet<>(fromSql)).isEqualTo(fromTree);
+    }
+
+    /**
+     * MissingCaseService.getCasesNear와 같은 파라미터로 쿼리를 평가 (결과는 ORDER BY 순)
+     */
+    private static List<Integer> runQuery(double[] latitudes, double[] longitudes,
+                                          double lat, double lng, double radiusKm) {
+        List<Integer> matched = new ArrayList<>();
+        Map<Integer, Double> distance = new HashMap<>();
+        for (int i = 0; i < latitudes.length; i++) {
+            Map<String, Double> row = row(lat, lng, latitudes[i], longitudes[i], radiusKm);
+            if (where.test(row)) {
+                matched.add(i);
+                distance.put(i, orderBy.eval(row));
+            }
+        }
+        matched.sort(Comparator.comparing(distance::get));
+        return matched;
+    }
+
+    private static Map<String, Double> row(double lat, double lng, double rowLat, double rowLng, double radiusKm) {
+        GeoBoundingBox box = GeoBoundingBox.around(lat, lng, radiusKm);
+        Map<String, Double> values = new HashMap<>();
+        values.put(":latitude", lat);
+        values.put(":longitude", lng);
+        values.put(":radiusKm", radiusKm);
+        values.put(":minLat", box.minLatitude());
+        values.put(":maxLat", box.maxLatitude());
+        values.put(":minLng", box.minLongitude());
+        values.put(":maxLng", box.maxLongitude());
+        values.put("mc.latitude", rowLat);
+        values.put("mc.longitude", rowLng);
+        values.put("mc.is_deleted", 0.0);
+        values.put("false", 0.0);
+        values.put("true", 1.0);
+        return values;
+    }
+
+    private static double round7(double value) {
+        return Math.round(value * 1e7) / 1e7;
+    }
+
+    private interface SqlExpression {
+        double eval(Map<String, Double> row);
+    }
+
+    private interface SqlCondition {
+        boolean test(Map<String, Double> row);
+    }
+
+    /**
+     * 쿼리에 쓰인 범위만 지원하는 SQL 파서
+     * 조건: expr BETWEEN expr AND expr | expr (= | <= | >= | < | >) expr, AND로 연결
+     * 식: + - * /, 괄호, acos/cos/sin/radians, 숫자, :파라미터, 컬럼
+     */
+    private static final class SqlParser {
+        private static final Pattern TOKEN = Pattern.compile(
+                "\\s*(<=|>=|[-+*/()=<>]|:[A-Za-z]+|[A-Za-z_][A-Za-z_.]*|\\d+(?:\\.\\d+)?)");
+
+        private final List<String> tokens = new ArrayList<>();
+        private int pos;
+
+        SqlParser(String sql) {
+            Matcher matcher = TOKEN.matcher(sql);
+            int end = 0;
+            while (matcher.find() && matcher.start() == end) {
+                tokens.add(matcher.group(1));
+                end = matcher.end();
+            }
+            assertThat(sql.substring(end).isBlank()).as("지원하지 않는 SQL: %s", sql.substring(end)).isTrue();
+        }
+
+        SqlCondition parseCondition() {
+            SqlCondition condition = comparison();
+            while (accept("AND")) {
+                SqlCondition left = condition;
+                SqlCondition right = comparison();
+                condition = row -> left.test(row) && right.test(row);
+            }
+            expectEnd();
+            return condition;
+        }
+
+        SqlExpression parseExpression() {
+            SqlExpression expression = expression();
+            expectEnd();
+            return expression;
+        }
+
+        private SqlCondition comparison() {
+            SqlExpression left = expression();
+            if (accept("BETWEEN")) {
+                SqlExpression low = expression();
+                expect("AND");
+                SqlExpression high = expression();
+                return row -> {
+                    double value = left.eval(row);
+                    return value >= low.eval(row) && value <= high.eval(row);
+                };
+            }
+            String operator = next();
+            SqlExpression right = expression();
+            return switch (operator) {
+                case "=" -> row -> left.eval(row) == right.eval(row);
+                case "<=" -> row -> left.eval(row) <= right.eval(row);
+                case ">=" -> row -> left.eval(row) >= right.eval(row);
+                case "<" -> row -> left.eval(row) < right.eval(row);
+                case ">" -> row -> left.eval(row) > right.eval(row);
+                default -> throw new IllegalArgumentException("지원하지 않는 비교 연산자: " + operator);
+            };
+        }
+
+        private SqlExpression expression() {
+            SqlExpression result = term();
+            while (true) {
+                SqlExpression left = result;
+                if (accept("+")) {
+                    SqlExpression right = term();
+                    result = row -> left.eval(row) + right.eval(row);
+                } else if (accept("-")) {
+                    SqlExpression right = term();
+                    result = row -> left.eval(row) - right.eval(row);
+                } else {
+                    return result;
+                }
+            }
+        }
+
+        private SqlExpression term() {
+            SqlExpression result = factor();
+            while (true) {
+                SqlExpression left = result;
+                if (accept("*")) {
+                    SqlExpression right = factor();
+                    result = row -> left.eval(row) * right.eval(row);
+                } else if (accept("/")) {
+                    SqlExpression right = factor();
+                    result = row -> left.eval(row) / right.eval(row);
+                } else {
+                    return result;
+                }
+            }
+        }
+
+        private SqlExpression factor() {
+            String token = next();
+            if (token.equals("(")) {
+                SqlExpression inner = expression();
+                expect(")");
+                return inner;
+            }
+            if (Character.isDigit(token.charAt(0))) {
+                double value = Double.parseDouble(token);
+                return row -> value;
+            }
+            if (accept("(")) {
+                SqlExpression argument = expression();
+                expect(")");
+                return switch (token.toLowerCase()) {
+                    case "acos" -> row -> Math.acos(argument.eval(row));
+                    case "cos" -> row -> Math.cos(argument.eval(row));
+                    case "sin" -> row -> Math.sin(argument.eval(row));
+                    case "radians" -> row -> Math.toRadians(argument.eval(row));
+                    default -> throw new IllegalArgumentException("지원하지 않는 함수: " + token);
+                };
+            }
+            return row -> {
+                Double value = row.get(token);
+                if (value == null) {
+                    throw new IllegalArgumentException("알 수 없는 컬럼/파라미터: " + token);
+                }
+                return value;
+            };
+        }
+
+        private boolean accept(String token) {
+            if (pos < tokens.size() && tokens.get(pos).equalsIgnoreCase(token)) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String token) {
+            if (!accept(token)) {
+                throw new IllegalArgumentException("'" + token + "' 필요, 위치 " + pos + ": " + tokens);
+            }
+        }
+
+        private String next() {
+            if (pos >= tokens.size()) {
+                throw new IllegalArgumentException("SQL이 예상보다 일찍 끝남: " + tokens);
+            }
+            return tokens.get(pos++);
+        }
+
+        private void expectEnd() {
+            if (pos != tokens.size()) {
+                throw new IllegalArgumentException("해석하지 못한 SQL: " + tokens.subList(pos, tokens.size()));
+            }
+        }
+    }
+}
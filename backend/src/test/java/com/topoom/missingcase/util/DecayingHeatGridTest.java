@@ -0,0 +1,51 @@
+package com.topoom.missingcase.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DecayingHeatGridTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Test
+    void 반감기가_지나면_가중치가_절반이_된다() {
+        DecayingHeatGrid grid = new DecayingHeatGrid(16, 2, HOUR);
+        grid.add(37.5665, 126.9780, 1.0, 0, 0);
+
+        List<DecayingHeatGrid.CellValue> cells = grid.snapshot(HOUR, 0);
+
+        assertThat(cells).hasSize(1);
+        assertThat(cells.get(0).weight()).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    void 추가_순서와_무관하게_같은_값이_된다() {
+        DecayingHeatGrid inOrder = new DecayingHeatGrid(16, 2, HOUR);
+        inOrder.add(37.5665, 126.9780, 1.0, 0, 0);
+        inOrder.add(37.5665, 126.9780, 0.6, 2 * HOUR, 1);
+
+        DecayingHeatGrid reversed = new DecayingHeatGrid(16, 2, HOUR);
+        reversed.add(37.5665, 126.9780, 0.6, 2 * HOUR, 1);
+        reversed.add(37.5665, 126.9780, 1.0, 0, 0);
+
+        DecayingHeatGrid.CellValue a = inOrder.snapshot(3 * HOUR, 0).get(0);
+        DecayingHeatGrid.CellValue b = reversed.snapshot(3 * HOUR, 0).get(0);
+        assertThat(a.weight()).isCloseTo(b.weight(), within(1e-9));
+        assertThat(a.weight()).isCloseTo(1.0 / 8 + 0.6 / 2, within(1e-9));
+        assertThat(a.counts()).containsExactly(1, 1);
+    }
+
+    @Test
+    void 다른_칸의_점은_따로_집계되고_최소_가중치로_거른다() {
+        DecayingHeatGrid grid = new DecayingHeatGrid(16, 2, HOUR);
+        grid.add(37.5665, 126.9780, 1.0, 0, 0);
+        grid.add(35.1796, 129.0756, 0.3, 0, 0);
+
+        assertThat(grid.size()).isEqualTo(2);
+        assertThat(grid.snapshot(0, 0.5)).hasSize(1);
+    }
+}
@@ -0,0 +1,77 @@
+package com.topoom.missingcase.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoKdTreeTest {
+
+    @Test
+    void 반경_내_개수가_SQL_Haversine_전수_비교와_일치한다() {
+        Random random = new Random(42);
+        int n = 5000;
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            // 서울 일대 좌표, 일부는 중복 좌표
+            if (i > 0 && i % 9 == 0) {
+                latitudes[i] = latitudes[i - 1];
+                longitudes[i] = longitudes[i - 1];
+            } else {
+                latitudes[i] = round7(37.40 + random.nextDouble() * 0.30);
+                longitudes[i] = round7(126.80 + random.nextDouble() * 0.40);
+            }
+        }
+        GeoKdTree tree = new GeoKdTree(latitudes, longitudes);
+
+        for (int q = 0; q < 500; q++) {
+            double lat;
+            double lng;
+            if (q % 5 == 0) {
+                // 저장된 좌표와 정확히 같은 중심
+                lat = latitudes[random.nextInt(n)];
+                lng = longitudes[random.nextInt(n)];
+            } else {
+                lat = 37.40 + random.nextDouble() * 0.30;
+                lng = 126.80 + random.nextDouble() * 0.40;
+            }
+            double radiusKm = q % 2 == 0 ? 0.2 : random.nextDouble() * 3.0;
+
+            int expected = 0;
+            for (int i = 0; i < n; i++) {
+                if (GeoUtils.isWithinRadius(lat, lng, latitudes[i], longitudes[i], radiusKm)) {
+                    expected++;
+                }
+            }
+
+            assertThat(tree.countWithinRadius(lat, lng, radiusKm))
+                    .as("lat=%s, lng=%s, radiusKm=%s", lat, lng, radiusKm)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void 사각형_범위_조회가_경계를_포함한다() {
+        double[] latitudes = {37.5, 37.6, 37.7, 37.5};
+        double[] longitudes = {127.0, 127.1, 127.2, 127.3};
+        GeoKdTree tree = new GeoKdTree(latitudes, longitudes);
+
+        int[] count = new int[1];
+        tree.forEachInBox(37.5, 37.6, 127.0, 127.1, i -> count[0]++);
+
+        assertThat(count[0]).isEqualTo(2);
+    }
+
+    @Test
+    void 빈_트리는_0을_반환한다() {
+        GeoKdTree tree = new GeoKdTree(new double[0], new double[0]);
+
+        assertThat(tree.countWithinRadius(37.5, 127.0, 0.2)).isZero();
+    }
+
+    private static double round7(double value) {
+        return Math.round(value * 1e7) / 1e7;
+    }
+}
@@ -0,0 +1,39 @@
+package com.topoom.missingcase.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WebMercatorTilesTest {
+
+    @Test
+    void 서울시청은_줌10_타일_873_396에_속한다() {
+        assertThat(WebMercatorTiles.tileX(126.9780, 10)).isEqualTo(873);
+        assertThat(WebMercatorTiles.tileY(37.5665, 10)).isEqualTo(396);
+    }
+
+    @Test
+    void 점_코드는_모든_줌에서_자기_타일_구간_안에_있다() {
+        Random random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            double lat = 33.0 + random.nextDouble() * 5.5;
+            double lng = 124.5 + random.nextDouble() * 7.5;
+            long code = WebMercatorTiles.pointCode(lat, lng);
+            for (int z = 0; z <= WebMercatorTiles.MAX_ZOOM; z++) {
+                int x = WebMercatorTiles.tileX(lng, z);
+                int y = WebMercatorTiles.tileY(lat, z);
+                assertThat(code).isBetween(WebMercatorTiles.rangeStart(z, x, y), WebMercatorTiles.rangeEnd(z, x, y) - 1);
+                assertThat(WebMercatorTiles.codeAtZoom(code, z)).isEqualTo(WebMercatorTiles.morton(x, y));
+            }
+        }
+    }
+
+    @Test
+    void 범위를_벗어난_타일은_거부한다() {
+        assertThatThrownBy(() -> WebMercatorTiles.validate(3, 8, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WebMercatorTiles.validate(25, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}